@@ -0,0 +1,26 @@
+package com.domain.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.tuning")
+public class CacheTuningProperties {
+
+    /**
+     * true면 변경 내용을 기록만 하고 실제로 반영하지 않음
+     */
+    private boolean dryRun = false;
+
+    /**
+     * 목표 p95 조회 지연 시간 (ms)
+     */
+    private double targetP95Millis = 200;
+
+    /**
+     * 노드당 분당 허용 재계산(DB 조회) 횟수
+     */
+    private double recomputeBudgetPerMinute = 300;
+}
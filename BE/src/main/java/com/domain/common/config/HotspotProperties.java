@@ -0,0 +1,26 @@
+package com.domain.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.hotspot")
+public class HotspotProperties {
+
+    /**
+     * 접근률 반감기 (분) - 짧을수록 최근 트래픽에 빠르게 반응
+     */
+    private double halfLifeMinutes = 10;
+
+    /**
+     * 분 단위 접근 버킷 보관 기간 (분)
+     */
+    private int windowMinutes = 60;
+
+    /**
+     * 강등 임계값 비율 - 접근률이 승격 임계값 * demoteRatio 미만이 되어야 강등
+     */
+    private double demoteRatio = 0.7;
+}
@@ -6,6 +6,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +22,11 @@ public class CacheMonitoringController {
     private final DynamicThresholdService thresholdService;
     private final MultiLevelCacheService multiLevelCache;
     private final PoiAccessTrackingService accessTrackingService;
+    private final CacheWarmingService cacheWarmingService;
+
+    private static final int TOP_POI_LIMIT = 20;
+    private static final int MAX_CLUSTER_WINDOW_MINUTES = 24 * 60;
+    private static final int MAX_TUNING_DECISIONS = 500;
 
     /**
      * 시스템 전체 캐시 메트릭 조회
@@ -28,10 +36,46 @@ public class CacheMonitoringController {
         return ResponseEntity.ok(Map.of(
                 "system", metricsService.getSystemMetrics(),
                 "l1Cache", multiLevelCache.getL1Stats(),
-                "thresholds", Map.of(
-                        "hotspotThreshold", thresholdService.getHotspotThreshold(),
-                        "cacheTtlMinutes", thresholdService.getCacheTtlMinutes()
-                )
+                "topPois", metricsService.getTopPois(TOP_POI_LIMIT),
+                "thresholds", thresholdService.getState()
+        ));
+    }
+
+    /**
+     * 최근 캐시 예열 계획과 효과 조회
+     */
+    @GetMapping("/warming")
+    public ResponseEntity<?> getWarming() {
+        Map<String, Object> warming = new HashMap<>();
+        warming.put("lastPlan", cacheWarmingService.getLastPlan());
+        warming.put("lastReport", cacheWarmingService.getLastReport());
+        return ResponseEntity.ok(warming);
+    }
+
+    /**
+     * 자동 튜닝 현재 설정값과 최근 결정 기록 조회
+     */
+    @GetMapping("/tuning")
+    public ResponseEntity<?> getTuning(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(Map.of(
+                "state", thresholdService.getState(),
+                "decisions", thresholdService.getRecentDecisions(Math.min(Math.max(limit, 1), MAX_TUNING_DECISIONS))
+        ));
+    }
+
+    /**
+     * 클러스터 전체 캐시 메트릭 조회 (모든 노드 합산, 전일 동시간대 비교 포함)
+     */
+    @GetMapping("/metrics/cluster")
+    public ResponseEntity<?> getClusterMetrics(
+            @RequestParam(defaultValue = "60") int windowMinutes) {
+        Duration window = Duration.ofMinutes(Math.min(Math.max(windowMinutes, 5), MAX_CLUSTER_WINDOW_MINUTES));
+        LocalDateTime now = LocalDateTime.now();
+
+        return ResponseEntity.ok(Map.of(
+                "windowMinutes", window.toMinutes(),
+                "current", metricsService.getClusterMetrics(now, window),
+                "previousDay", metricsService.getClusterMetrics(now.minusDays(1), window)
         ));
     }
 
@@ -44,6 +88,7 @@ public class CacheMonitoringController {
                 "metrics", metricsService.getMetrics(poiId),
                 "isHotspot", accessTrackingService.isHotspot(poiId),
                 "accessCount", accessTrackingService.getCurrentAccessCount(poiId),
+                "accessRate", accessTrackingService.getAccessRate(poiId),
                 "lastAccess", accessTrackingService.getLastAccessTime(poiId)
         ));
     }
@@ -0,0 +1,21 @@
+package com.domain.common.dto;
+
+import com.domain.common.service.AimdTuner;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 자동 튜닝 결정 기록 (변경이 없거나 dry-run인 경우도 포함)
+ */
+@Builder
+public record CacheTuningAudit(
+        LocalDateTime decidedAt,
+        boolean dryRun,
+        boolean applied,
+        AimdTuner.Signals signals,
+        CacheTuningState before,
+        CacheTuningState after,
+        List<String> reasons
+) {
+}
@@ -0,0 +1,15 @@
+package com.domain.common.dto;
+
+import lombok.Builder;
+
+/**
+ * 자동 튜닝 대상 캐시 설정값
+ */
+@Builder(toBuilder = true)
+public record CacheTuningState(
+        int cacheTtlMinutes,      // 캐시 논리 만료 시간 (분)
+        int hotspotThreshold,     // 핫스팟 승격 임계값 (시간당 접근 횟수)
+        int l1MaximumSize,        // L1(Caffeine) 최대 항목 수
+        int refreshConcurrency    // 노드당 백그라운드 재계산 동시 실행 수
+) {
+}
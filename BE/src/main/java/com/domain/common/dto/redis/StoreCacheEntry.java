@@ -0,0 +1,115 @@
+package com.domain.common.dto.redis;
+
+import com.domain.review.dto.response.StoreDistanceResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+
+/**
+ * POI 거리 밴드별 Store 캐시 엔트리
+ * - 값과 함께 재계산 소요 시간(computeMillis)과 논리 만료 시각(expiresAt)을 보관한다.
+ * - Redis에는 "version|computeMillis|expiresAt|storeId:distance,..." 형태의 문자열 하나로 저장한다.
+ */
+@Builder(toBuilder = true)
+public record StoreCacheEntry(
+        List<StoreDistanceResult> stores,   // 거리순 정렬된 Store 목록
+        long computeMillis,                 // 재계산에 걸린 시간 (XFetch delta)
+        long expiresAt,                     // 논리 만료 시각 (epoch millis)
+        long version                        // 캐시 버전 (갱신될 때마다 증가)
+) {
+
+    private static final String FIELD_DELIMITER = "|";
+    private static final String STORE_DELIMITER = ",";
+    private static final String PAIR_DELIMITER = ":";
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAt;
+    }
+
+    /**
+     * XFetch 조기 갱신 판단
+     * - now - delta * beta * ln(rand) >= expiry 이면 만료 전이라도 재계산한다.
+     * - 재계산이 오래 걸리는 키일수록, 만료가 가까울수록, 자주 읽히는 키일수록 먼저 갱신된다.
+     *
+     * @param beta 1.0이 기본값, 클수록 더 일찍 갱신
+     */
+    public boolean shouldRefreshEarly(long nowMillis, double beta) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        if (random == 0.0) {
+            return true;
+        }
+        double gap = -computeMillis * beta * Math.log(random);
+        return nowMillis + gap >= expiresAt;
+    }
+
+    /**
+     * 새 Store를 거리순 위치에 끼워 넣은 엔트리 반환 (버전 증가, 만료 시각 유지)
+     *
+     * @return 이미 포함된 Store면 현재 엔트리 그대로
+     */
+    public StoreCacheEntry withStore(StoreDistanceResult store) {
+        List<StoreDistanceResult> patched = new ArrayList<>(stores.size() + 1);
+        boolean inserted = false;
+
+        for (StoreDistanceResult existing : stores) {
+            if (existing.storeId().equals(store.storeId())) {
+                return this;
+            }
+            if (!inserted && store.distance() < existing.distance()) {
+                patched.add(store);
+                inserted = true;
+            }
+            patched.add(existing);
+        }
+        if (!inserted) {
+            patched.add(store);
+        }
+
+        return toBuilder()
+                .stores(List.copyOf(patched))
+                .version(version + 1)
+                .build();
+    }
+
+    public String encode() {
+        StringBuilder sb = new StringBuilder()
+                .append(version).append(FIELD_DELIMITER)
+                .append(computeMillis).append(FIELD_DELIMITER)
+                .append(expiresAt).append(FIELD_DELIMITER);
+
+        for (int i = 0; i < stores.size(); i++) {
+            if (i > 0) {
+                sb.append(STORE_DELIMITER);
+            }
+            StoreDistanceResult store = stores.get(i);
+            sb.append(store.storeId()).append(PAIR_DELIMITER).append(store.distance());
+        }
+        return sb.toString();
+    }
+
+    public static StoreCacheEntry decode(String encoded) {
+        String[] fields = encoded.split("\\|", 4);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Malformed store cache entry: " + encoded);
+        }
+
+        List<StoreDistanceResult> stores = new ArrayList<>();
+        if (!fields[3].isEmpty()) {
+            for (String pair : fields[3].split(STORE_DELIMITER)) {
+                int idx = pair.indexOf(PAIR_DELIMITER);
+                stores.add(StoreDistanceResult.builder()
+                        .storeId(Long.parseLong(pair.substring(0, idx)))
+                        .distance(Integer.parseInt(pair.substring(idx + 1)))
+                        .build());
+            }
+        }
+
+        return StoreCacheEntry.builder()
+                .version(Long.parseLong(fields[0]))
+                .computeMillis(Long.parseLong(fields[1]))
+                .expiresAt(Long.parseLong(fields[2]))
+                .stores(List.copyOf(stores))
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.domain.common.event;
+
+import com.domain.common.dto.CacheTuningState;
+
+/**
+ * 자동 튜닝으로 캐시 설정값이 변경되었을 때 발행
+ * - L1 크기, 재계산 동시성처럼 다른 서비스가 가진 설정은 이 이벤트를 받아 각자 반영한다.
+ */
+public record CacheTuningChangedEvent(
+        CacheTuningState state
+) {
+}
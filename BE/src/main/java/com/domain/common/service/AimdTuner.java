@@ -0,0 +1,124 @@
+package com.domain.common.service;
+
+import com.domain.common.dto.CacheTuningState;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AIMD(additive increase / multiplicative decrease) 기반 캐시 설정 튜너 (Spring 의존성 없음)
+ * - 목표를 벗어나면 캐시를 공격적으로 쓰는 방향으로 크게(곱셈) 조정하고,
+ *   여유가 있을 때만 신선도/메모리를 되찾는 방향으로 조금씩(덧셈) 되돌린다.
+ * - 고정 폭으로 양방향을 오가던 방식과 달리 목표 근처(여유 구간)에서는 값을 유지하므로 진동하지 않는다.
+ */
+public class AimdTuner {
+
+    // 조정 범위
+    private static final int MIN_TTL_MINUTES = 5;
+    private static final int MAX_TTL_MINUTES = 60;
+    private static final int MIN_HOTSPOT_THRESHOLD = 20;
+    private static final int MAX_HOTSPOT_THRESHOLD = 500;
+    private static final int MIN_L1_SIZE = 10;
+    private static final int MAX_L1_SIZE = 1000;
+    private static final int MIN_REFRESH_CONCURRENCY = 1;
+    private static final int MAX_REFRESH_CONCURRENCY = 16;
+
+    // p95가 목표의 이 비율 미만이어야 여유 있다고 판단 (목표와 여유 사이는 유지 구간)
+    private static final double COMFORT_RATIO = 0.7;
+    private static final double MIN_HIT_RATE = 70.0;
+    private static final double MEMORY_HIGH_THRESHOLD = 0.85;
+
+    private final double targetP95Millis;
+    private final double recomputeBudgetPerMinute;
+
+    /**
+     * 튜닝 입력 지표
+     *
+     * @param p95Millis           최근 조회 지연 p95 (ms)
+     * @param recomputesPerMinute 최근 분당 재계산(DB 조회) 횟수
+     * @param refreshQueueDepth   백그라운드 재계산 대기 작업 수
+     * @param hitRate             클러스터 캐시 히트율 (%)
+     * @param memoryUsage         힙 사용률 (0~1)
+     */
+    public record Signals(
+            double p95Millis,
+            double recomputesPerMinute,
+            int refreshQueueDepth,
+            double hitRate,
+            double memoryUsage
+    ) {
+    }
+
+    public record Decision(CacheTuningState next, List<String> reasons) {
+
+        public boolean changed(CacheTuningState current) {
+            return !next.equals(current);
+        }
+    }
+
+    public AimdTuner(double targetP95Millis, double recomputeBudgetPerMinute) {
+        this.targetP95Millis = targetP95Millis;
+        this.recomputeBudgetPerMinute = recomputeBudgetPerMinute;
+    }
+
+    public Decision decide(CacheTuningState current, Signals signals) {
+        List<String> reasons = new ArrayList<>();
+        int ttl = current.cacheTtlMinutes();
+        int threshold = current.hotspotThreshold();
+        int l1Size = current.l1MaximumSize();
+        int concurrency = current.refreshConcurrency();
+
+        boolean overLatency = signals.p95Millis() > targetP95Millis;
+        boolean overLoad = signals.recomputesPerMinute() > recomputeBudgetPerMinute;
+        boolean comfortable = signals.p95Millis() < targetP95Millis * COMFORT_RATIO && !overLoad;
+
+        if (overLatency) {
+            // 지연 초과 - 더 많은 POI를 핫스팟(L1 + stale 제공)으로, L1 확대
+            threshold = (int) (threshold * 0.8);
+            l1Size = (int) Math.ceil(l1Size * 1.5);
+            if (signals.hitRate() < MIN_HIT_RATE) {
+                ttl = (int) Math.ceil(ttl * 1.5);
+            }
+            reasons.add(String.format("p95 %.1fms > target %.1fms", signals.p95Millis(), targetP95Millis));
+        }
+
+        if (overLoad) {
+            // DB 부하 초과 - 재계산 빈도와 동시성 축소
+            ttl = (int) Math.ceil(ttl * 1.5);
+            concurrency = concurrency / 2;
+            reasons.add(String.format("recomputes %.1f/min > budget %.1f/min",
+                    signals.recomputesPerMinute(), recomputeBudgetPerMinute));
+        }
+
+        if (comfortable) {
+            // 여유 - 신선도와 메모리를 조금씩 회수
+            ttl -= 1;
+            threshold += 5;
+            l1Size -= 5;
+            if (signals.refreshQueueDepth() > 0) {
+                concurrency += 1;
+            }
+            reasons.add(String.format("p95 %.1fms within comfort zone", signals.p95Millis()));
+        }
+
+        if (signals.memoryUsage() > MEMORY_HIGH_THRESHOLD && l1Size > MIN_L1_SIZE) {
+            l1Size = Math.min(l1Size, current.l1MaximumSize() / 2);
+            reasons.add(String.format("heap usage %.0f%% - shrinking L1", signals.memoryUsage() * 100));
+        }
+
+        CacheTuningState next = CacheTuningState.builder()
+                .cacheTtlMinutes(clamp(ttl, MIN_TTL_MINUTES, MAX_TTL_MINUTES))
+                .hotspotThreshold(clamp(threshold, MIN_HOTSPOT_THRESHOLD, MAX_HOTSPOT_THRESHOLD))
+                .l1MaximumSize(clamp(l1Size, MIN_L1_SIZE, MAX_L1_SIZE))
+                .refreshConcurrency(clamp(concurrency, MIN_REFRESH_CONCURRENCY, MAX_REFRESH_CONCURRENCY))
+                .build();
+
+        if (reasons.isEmpty()) {
+            reasons.add("within target - holding");
+        }
+        return new Decision(next, List.copyOf(reasons));
+    }
+
+    private int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,73 @@
+package com.domain.common.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 캐시 재계산 리스(lease) 관리
+ * - 여러 노드가 같은 (poiId, distance)를 동시에 재계산하지 않도록 Redis SET NX 기반의 짧은 리스를 발급한다.
+ * - 리스를 얻지 못한 노드는 stale 데이터를 제공하거나 잠시 대기한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheLeaseService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 리스 키 - poi:cache:lease:123:500m (poi 123번 500m 캐시를 재계산 중인 노드의 토큰)
+    private static final String LEASE_KEY_PATTERN = "poi:cache:lease:%d:%dm";
+    // 재계산이 비정상 종료되어도 리스가 자동으로 풀리도록 짧게 유지
+    private static final Duration LEASE_TTL = Duration.ofSeconds(5);
+
+    // 본인이 발급받은 리스만 해제 (다른 노드의 리스를 지우지 않도록 토큰 비교)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('GET', KEYS[1]) == ARGV[1] then
+                    return redis.call('DEL', KEYS[1])
+                end
+                return 0
+            """, Long.class);
+
+    /**
+     * 리스 획득 시도
+     *
+     * @return 획득 성공 시 리스 토큰, 다른 노드가 보유 중이면 null
+     */
+    public String tryAcquire(Long poiId, int distance) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(generateKey(poiId, distance), token, LEASE_TTL);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            // Redis 장애 시에는 리스 없이 로컬에서 재계산하도록 허용
+            log.warn("Failed to acquire refresh lease for POI {} at {}m: {}", poiId, distance, e.getMessage());
+            return token;
+        }
+    }
+
+    /**
+     * 리스 해제 (토큰이 일치하는 경우에만)
+     */
+    public void release(Long poiId, int distance, String token) {
+        if (token == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(generateKey(poiId, distance)), token);
+        } catch (Exception e) {
+            log.warn("Failed to release refresh lease for POI {} at {}m: {}", poiId, distance, e.getMessage());
+        }
+    }
+
+    private String generateKey(Long poiId, int distance) {
+        return String.format(LEASE_KEY_PATTERN, poiId, distance);
+    }
+}
@@ -1,10 +1,14 @@
 package com.domain.common.service;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -12,22 +16,47 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
-
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 히트/미스 메트릭
+ * - 전체 카운터는 LongAdder로 집계하고 Micrometer 카운터로 노출한다 (Prometheus가 직접 수집).
+ * - POI별 통계는 고정 용량 테이블에서 자주 조회되는 POI만 추적한다.
+ * - 각 노드는 1분마다 증가분을 Redis 5분 버킷에 HINCRBY로 합산하여 클러스터 전체 지표를 만든다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CacheMetricsService {
 
+    private final MeterRegistry meterRegistry;
     private final RedisTemplate<String, Object> redisTemplate;
 
-    private final Map<String, AtomicLong> hitCounters = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> missCounters = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> staleServedCounters = new ConcurrentHashMap<>();
-
-    private static final String METRICS_KEY_PREFIX = "cache:metrics:";
+    // POI별 통계를 추적할 최대 POI 수
+    private static final int TRACKED_POI_CAPACITY = 1024;
+
+    // 클러스터 메트릭 버킷 - cache:metrics:cluster:202508101405 (hash, field=hits/misses/staleServed)
+    private static final String CLUSTER_METRICS_KEY = "cache:metrics:cluster:";
+    private static final int BUCKET_MINUTES = 5;
+    // 전일 동시간대 비교가 가능하도록 8일 보관
+    private static final Duration CLUSTER_METRICS_TTL = Duration.ofDays(8);
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final String HITS_FIELD = "hits";
+    private static final String MISSES_FIELD = "misses";
+    private static final String STALE_SERVED_FIELD = "staleServed";
+
+    private final LongAdder totalHits = new LongAdder();
+    private final LongAdder totalMisses = new LongAdder();
+    private final LongAdder totalStaleServed = new LongAdder();
+    private final PoiCacheStatsTracker poiStats = new PoiCacheStatsTracker(TRACKED_POI_CAPACITY);
+
+    // 마지막으로 클러스터 버킷에 반영한 누적값 (다음 반영 시 증가분 계산 기준)
+    private long publishedHits;
+    private long publishedMisses;
+    private long publishedStaleServed;
 
     @Builder
     public record CacheMetrics(
@@ -57,65 +86,142 @@ public class CacheMetricsService {
         }
     }
 
-    public void recordHit(Long poiId, boolean isStale) {
-        String key = "poi:" + poiId;
-        hitCounters.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    @PostConstruct
+    void registerMeters() {
+        FunctionCounter.builder("cache.poi.requests", totalHits, LongAdder::sum)
+                .description("POI Store 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.poi.requests", totalMisses, LongAdder::sum)
+                .description("POI Store 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.poi.stale.served", totalStaleServed, LongAdder::sum)
+                .description("논리 만료된(stale) 캐시를 제공한 수")
+                .register(meterRegistry);
+    }
 
+    public void recordHit(Long poiId, boolean isStale) {
+        totalHits.increment();
         if (isStale) {
-            staleServedCounters.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+            totalStaleServed.increment();
         }
+        poiStats.recordHit(poiId, isStale);
     }
 
     public void recordMiss(Long poiId) {
-        String key = "poi:" + poiId;
-        missCounters.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        totalMisses.increment();
+        poiStats.recordMiss(poiId);
     }
 
     public CacheMetrics getMetrics(Long poiId) {
-        String key = "poi:" + poiId;
-        long hits = hitCounters.getOrDefault(key, new AtomicLong()).get();
-        long misses = missCounters.getOrDefault(key, new AtomicLong()).get();
-        long staleServed = staleServedCounters.getOrDefault(key, new AtomicLong()).get();
-
-        return CacheMetrics.calculate(hits, misses, staleServed);
+        PoiCacheStatsTracker.PoiStats stats = poiStats.get(poiId);
+        return CacheMetrics.calculate(stats.hits(), stats.misses(), stats.staleServed());
     }
 
     public CacheMetrics getSystemMetrics() {
-        long totalHits = hitCounters.values().stream()
-                .mapToLong(AtomicLong::get).sum();
-        long totalMisses = missCounters.values().stream()
-                .mapToLong(AtomicLong::get).sum();
-        long totalStaleServed = staleServedCounters.values().stream()
-                .mapToLong(AtomicLong::get).sum();
-
-        return CacheMetrics.calculate(totalHits, totalMisses, totalStaleServed);
+        return CacheMetrics.calculate(totalHits.sum(), totalMisses.sum(), totalStaleServed.sum());
     }
 
+    /**
+     * 마지막 반영 이후 증가분을 클러스터 버킷에 합산 (노드 간 덮어쓰기 없음)
+     */
     @Scheduled(fixedDelay = 60000)
-    public void updateCurrentMetrics() {
-        CacheMetrics metrics = getSystemMetrics();
-        redisTemplate.opsForValue().set(METRICS_KEY_PREFIX + "current", metrics);
+    public synchronized void publishClusterMetrics() {
+        long hits = totalHits.sum();
+        long misses = totalMisses.sum();
+        long staleServed = totalStaleServed.sum();
+
+        long hitsDelta = hits - publishedHits;
+        long missesDelta = misses - publishedMisses;
+        long staleServedDelta = staleServed - publishedStaleServed;
+        if (hitsDelta == 0 && missesDelta == 0 && staleServedDelta == 0) {
+            return;
+        }
+
+        String bucketKey = bucketKey(LocalDateTime.now());
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForHash().increment(bucketKey, HITS_FIELD, hitsDelta);
+                    ops.opsForHash().increment(bucketKey, MISSES_FIELD, missesDelta);
+                    ops.opsForHash().increment(bucketKey, STALE_SERVED_FIELD, staleServedDelta);
+                    ops.expire(bucketKey, CLUSTER_METRICS_TTL);
+                    return null;
+                }
+            });
+
+            // 반영에 성공한 경우에만 기준값 이동 (실패한 증가분은 다음 주기에 함께 반영)
+            publishedHits = hits;
+            publishedMisses = misses;
+            publishedStaleServed = staleServed;
+        } catch (Exception e) {
+            log.warn("Failed to publish cluster cache metrics: {}", e.getMessage());
+        }
     }
 
-    @Scheduled(fixedDelay = 3600000) // 1시간마다
-    public void persistMetrics() {
-        CacheMetrics metrics = getSystemMetrics();
-
-        Map<String, Object> metricsMap = Map.of(
-                "hits", metrics.hits(),
-                "misses", metrics.misses(),
-                "hitRate", metrics.hitRate(),
-                "timestamp", LocalDateTime.now().toString()
-        );
-
-        redisTemplate.opsForStream().add(
-                StreamRecords.newRecord()
-                        .in(METRICS_KEY_PREFIX + "stream")
-                        .ofMap(metricsMap)
-        );
-
-        // 오래된 항목 자동 삭제 (최근 10개만)
-        redisTemplate.opsForStream().trim(METRICS_KEY_PREFIX + "stream", 10);
+    /**
+     * 최근 window 동안의 클러스터 전체 메트릭 (모든 노드 합산)
+     */
+    public CacheMetrics getClusterMetrics(Duration window) {
+        return getClusterMetrics(LocalDateTime.now(), window);
     }
-}
 
+    /**
+     * end 시점 이전 window 동안의 클러스터 전체 메트릭 (예: 전일 동시간대 비교)
+     */
+    public CacheMetrics getClusterMetrics(LocalDateTime end, Duration window) {
+        List<String> bucketKeys = new ArrayList<>();
+        LocalDateTime bucket = truncateToBucket(end);
+        long bucketCount = Math.max(1, window.toMinutes() / BUCKET_MINUTES);
+        for (int i = 0; i < bucketCount; i++) {
+            bucketKeys.add(bucketKey(bucket.minusMinutes((long) i * BUCKET_MINUTES)));
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                bucketKeys.forEach(key -> ops.opsForHash()
+                        .multiGet(key, List.of(HITS_FIELD, MISSES_FIELD, STALE_SERVED_FIELD)));
+                return null;
+            }
+        });
+
+        long hits = 0;
+        long misses = 0;
+        long staleServed = 0;
+        for (Object result : results) {
+            if (result instanceof List<?> values && values.size() == 3) {
+                hits += toLong(values.get(0));
+                misses += toLong(values.get(1));
+                staleServed += toLong(values.get(2));
+            }
+        }
+        return CacheMetrics.calculate(hits, misses, staleServed);
+    }
+
+    /**
+     * 조회 수 상위 POI 통계
+     */
+    public List<PoiCacheStatsTracker.PoiStats> getTopPois(int limit) {
+        return poiStats.top(limit);
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    private LocalDateTime truncateToBucket(LocalDateTime time) {
+        LocalDateTime minute = time.truncatedTo(ChronoUnit.MINUTES);
+        return minute.minusMinutes(minute.getMinute() % BUCKET_MINUTES);
+    }
+
+    private String bucketKey(LocalDateTime time) {
+        return CLUSTER_METRICS_KEY + truncateToBucket(time).format(BUCKET_FORMATTER);
+    }
+}
@@ -0,0 +1,210 @@
+package com.domain.common.service;
+
+import com.domain.common.event.CacheTuningChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 캐시 백그라운드 재계산 스케줄러
+ * - 요청 스레드는 작업만 등록하고 즉시 반환한다 (stale-while-revalidate).
+ * - 대기 중인 (poiId, distance) 작업은 중복 등록되지 않는다.
+ * - 핫스팟 작업이 일반 작업보다 먼저 실행되며, 대기열 크기와 동시 실행 수는 노드별로 제한된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheRefreshScheduler {
+
+    private final MeterRegistry meterRegistry;
+
+    public static final String QUEUE_DEPTH_GAUGE = "cache.refresh.queue.depth";
+
+    // 노드당 동시 재계산 수 기본값 (DB/Redis 부하 상한, 자동 튜닝으로 조정됨)
+    private static final int REFRESH_CONCURRENCY = 4;
+    // 대기열 최대 크기 - 초과 시 등록을 거절하고 다음 요청에서 다시 시도
+    private static final int MAX_PENDING_REFRESHES = 500;
+
+    private final Map<String, RefreshTask> pendingRefreshes = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private ThreadPoolExecutor executor;
+    private Timer queueWaitTimer;
+    private Timer executionTimer;
+    private Counter submittedCounter;
+    private Counter deduplicatedCounter;
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void initialize() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                REFRESH_CONCURRENCY,
+                REFRESH_CONCURRENCY,
+                0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "CacheRefresh-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder(QUEUE_DEPTH_GAUGE, pendingCount, AtomicInteger::get)
+                .description("대기 중인 캐시 재계산 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("cache.refresh.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 캐시 재계산 작업 수")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("cache.refresh.wait")
+                .description("캐시 재계산 작업의 대기열 체류 시간")
+                .register(meterRegistry);
+        executionTimer = Timer.builder("cache.refresh.latency")
+                .description("캐시 재계산 작업 실행 시간")
+                .register(meterRegistry);
+        submittedCounter = meterRegistry.counter("cache.refresh.requests", "result", "submitted");
+        deduplicatedCounter = meterRegistry.counter("cache.refresh.requests", "result", "deduplicated");
+        rejectedCounter = meterRegistry.counter("cache.refresh.requests", "result", "rejected");
+        failedCounter = meterRegistry.counter("cache.refresh.requests", "result", "failed");
+    }
+
+    /**
+     * 백그라운드 재계산 등록
+     *
+     * @param hotspot 핫스팟이면 우선 실행
+     * @param refresh 실제 재계산 로직
+     * @return 새로 등록되었으면 true, 중복이거나 대기열이 가득 차 거절되면 false
+     */
+    public boolean submit(Long poiId, int distance, boolean hotspot, Runnable refresh) {
+        String key = generateKey(poiId, distance);
+
+        if (pendingRefreshes.containsKey(key)) {
+            deduplicatedCounter.increment();
+            log.debug("Refresh for POI {} at {}m already pending", poiId, distance);
+            return false;
+        }
+
+        if (pendingCount.incrementAndGet() > MAX_PENDING_REFRESHES) {
+            pendingCount.decrementAndGet();
+            rejectedCounter.increment();
+            log.warn("Refresh queue full ({}), rejected POI {} at {}m", MAX_PENDING_REFRESHES, poiId, distance);
+            return false;
+        }
+
+        RefreshTask task = new RefreshTask(key, hotspot, sequence.incrementAndGet(), System.nanoTime(), refresh);
+        if (pendingRefreshes.putIfAbsent(key, task) != null) {
+            pendingCount.decrementAndGet();
+            deduplicatedCounter.increment();
+            return false;
+        }
+
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            pendingRefreshes.remove(key, task);
+            pendingCount.decrementAndGet();
+            rejectedCounter.increment();
+            log.warn("Failed to schedule refresh for POI {} at {}m: {}", poiId, distance, e.getMessage());
+            return false;
+        }
+
+        submittedCounter.increment();
+        log.debug("Scheduled {} refresh for POI {} at {}m", hotspot ? "hotspot" : "normal", poiId, distance);
+        return true;
+    }
+
+    /**
+     * 자동 튜닝된 동시 실행 수 반영
+     */
+    @EventListener
+    public void onTuningChanged(CacheTuningChangedEvent event) {
+        int concurrency = event.state().refreshConcurrency();
+        if (concurrency == executor.getCorePoolSize()) {
+            return;
+        }
+
+        // core <= max 조건을 유지하도록 늘릴 때는 max부터, 줄일 때는 core부터 변경
+        if (concurrency > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(concurrency);
+            executor.setCorePoolSize(concurrency);
+        } else {
+            executor.setCorePoolSize(concurrency);
+            executor.setMaximumPoolSize(concurrency);
+        }
+        log.info("Refresh concurrency set to {}", concurrency);
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private String generateKey(Long poiId, int distance) {
+        return poiId + ":" + distance;
+    }
+
+    /**
+     * 우선순위 재계산 작업 - 핫스팟 우선, 같은 우선순위는 등록 순서대로
+     */
+    private class RefreshTask implements Runnable, Comparable<RefreshTask> {
+
+        private final String key;
+        private final boolean hotspot;
+        private final long sequence;
+        private final long enqueuedAt;
+        private final Runnable refresh;
+
+        private RefreshTask(String key, boolean hotspot, long sequence, long enqueuedAt, Runnable refresh) {
+            this.key = key;
+            this.hotspot = hotspot;
+            this.sequence = sequence;
+            this.enqueuedAt = enqueuedAt;
+            this.refresh = refresh;
+        }
+
+        @Override
+        public void run() {
+            // 실행 시작 시점에 대기 목록에서 제거 - 실행 중 들어온 요청은 다시 등록될 수 있음
+            pendingRefreshes.remove(key, this);
+            pendingCount.decrementAndGet();
+            queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+            long startedAt = System.nanoTime();
+            try {
+                refresh.run();
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("Background refresh failed for {}: {}", key, e.getMessage());
+            } finally {
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public int compareTo(RefreshTask other) {
+            if (hotspot != other.hotspot) {
+                return hotspot ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
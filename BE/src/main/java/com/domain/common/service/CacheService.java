@@ -1,25 +1,31 @@
 package com.domain.common.service;
 
+import com.domain.common.dto.redis.StoreCacheEntry;
 import com.domain.common.entity.Poi;
 import com.domain.common.repository.PoiRepository;
 import com.domain.review.dto.response.StoreDistanceResult;
 import com.domain.store.event.StoreCreatedEvent;
 import com.global.constants.SearchDistance;
-import com.global.redis.constants.RedisConstants;
 import com.global.utils.geo.H3SearchStrategy;
 import com.global.utils.geo.H3Utils;
 import com.global.utils.geo.HaversineCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,87 +33,127 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CacheService {
 
-    private static final String CACHE_KEY_PATTERN = "poi:%d:stores:%dm";
+    // v2: 값이 ZSET에서 인코딩된 STRING 엔트리로 바뀌어 이전 형식 키와 겹치지 않도록 버전 분리
+    private static final String CACHE_KEY_PATTERN = "poi:v2:%d:stores:%dm";
     private static final int MAX_AFFECTED_DISTANCE = 2000;
+    // 반경 내 Store가 없는 결과(negative entry)의 TTL - 새 가게 등록 시 무효화되지만 짧게 유지
+    private static final Duration NEGATIVE_CACHE_TTL = Duration.ofMinutes(5);
+    // 새 가게 패치 시 동시 갱신과 충돌하면 재시도하는 횟수
+    private static final int MAX_PATCH_ATTEMPTS = 3;
+
+    // 읽은 값이 그대로일 때만 교체 (재계산 결과를 덮어쓰지 않도록), 남은 TTL 유지
+    private static final DefaultRedisScript<Long> PATCH_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('GET', KEYS[1]) == ARGV[1] then
+                    redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL')
+                    return 1
+                end
+                return 0
+            """, Long.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final H3Utils h3Utils;
     private final PoiRepository poiRepository;
     private final HaversineCalculator haversineCalculator;
-    private final PoiAccessTrackingService poiAccessTrackingService;
-    private final CacheMetadataService metadataService;
     private final DynamicThresholdService thresholdService;
 
     /**
-     * 특정 거리 밴드의 캐시 존재 여부 확인
+     * 특정 거리 밴드의 캐시 조회 (값과 만료 정보를 한 번의 GET으로 조회)
+     *
+     * @return 캐시 엔트리, 없으면 null
      */
-    public boolean hasCache(Long poiId, int distance) {
+    public StoreCacheEntry getCache(Long poiId, int distance) {
         String cacheKey = generateCacheKey(poiId, distance);
-        log.info("Cache key: {}", cacheKey);
+        Object cached = readCache(cacheKey);
 
-        Boolean exists = redisTemplate.hasKey(cacheKey);
-        log.info("Cache exists: {}", exists);
-        if (exists) {
-            Long size = redisTemplate.opsForZSet().size(cacheKey);
-            return size != null && size > 0;
+        if (cached == null) {
+            return null;
         }
 
-        return false;
+        return getCacheEntry(cacheKey, cached);
     }
 
     /**
-     * 특정 거리 밴드의 캐시 조회
+     * 여러 거리 밴드 캐시를 한 번의 MGET으로 조회
+     *
+     * @return 키별 캐시 엔트리 (없거나 손상된 엔트리는 제외)
      */
-    public List<StoreDistanceResult> getCache(Long poiId, int distance) {
-        String cacheKey = generateCacheKey(poiId, distance);
-
-        Set<ZSetOperations.TypedTuple<Object>> cachedData =
-                redisTemplate.opsForZSet().rangeWithScores(cacheKey, 0, -1);
+    public Map<CacheKey, StoreCacheEntry> getCaches(List<CacheKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
 
-        if (cachedData == null || cachedData.isEmpty()) {
-            return new ArrayList<>();
+        List<String> cacheKeys = keys.stream()
+                .map(key -> generateCacheKey(key.poiId(), key.distance()))
+                .toList();
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(cacheKeys);
+        } catch (SerializationException e) {
+            // 역직렬화할 수 없는 값이 섞여 있으면 키별로 다시 읽어 해당 키만 미스 처리
+            log.warn("Falling back to per-key reads: {}", e.getMessage());
+            values = cacheKeys.stream().map(this::readCache).toList();
+        }
+        if (values == null) {
+            return Map.of();
         }
 
-        return convertToStoreDistanceResults(cachedData);
+        Map<CacheKey, StoreCacheEntry> entries = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Object cached = values.get(i);
+            if (cached == null) {
+                continue;
+            }
+            StoreCacheEntry entry = getCacheEntry(cacheKeys.get(i), cached);
+            if (entry != null) {
+                entries.put(keys.get(i), entry);
+            }
+        }
+        return entries;
     }
 
     /**
      * 특정 거리 밴드의 Store 목록을 캐시에 저장
+     * - 논리 만료(TTL) 이후에도 같은 시간만큼은 stale 데이터로 남겨 재계산 중 제공할 수 있도록 한다.
+     * - 빈 목록도 negative entry로 저장하여 Store가 없는 POI가 매번 DB를 조회하지 않도록 한다 (짧은 TTL 적용).
+     *
+     * @param computeMillis 재계산에 걸린 시간 (XFetch 조기 갱신에 사용)
+     * @return 저장된 캐시 엔트리
      */
-    public void saveCache(Long poiId, int distance, List<StoreDistanceResult> stores) {
-        if (stores == null || stores.isEmpty()) {
-            log.info("No stores to cache for POI {} at {}m band", poiId, distance);
-            return;
-        }
+    public StoreCacheEntry saveCache(Long poiId, int distance, List<StoreDistanceResult> stores, long computeMillis) {
+        List<StoreDistanceResult> cachedStores = stores == null ? List.of() : List.copyOf(stores);
 
         String cacheKey = generateCacheKey(poiId, distance);
-
-        // 기존 캐시 삭제 (덮어쓰기)
-        redisTemplate.delete(cacheKey);
-
-        stores.forEach(store ->
-                redisTemplate.opsForZSet().add(
-                        cacheKey,
-                        store.storeId(),
-                        store.distance()
-                )
-        );
-
-        Duration dynamicTtl = Duration.ofMinutes(thresholdService.getCacheTtlMinutes());
-        redisTemplate.expire(cacheKey, dynamicTtl);
-
-        log.info("Cached {} stores for POI {} at {}m band", stores.size(), poiId, distance);
+        Duration ttl = resolveTtl(cachedStores);
+        long now = System.currentTimeMillis();
+
+        StoreCacheEntry entry = StoreCacheEntry.builder()
+                .stores(cachedStores)
+                .computeMillis(computeMillis)
+                .expiresAt(now + ttl.toMillis())
+                .version(now)
+                .build();
+
+        redisTemplate.opsForValue().set(cacheKey, entry.encode(), ttl.plus(ttl));
+
+        if (cachedStores.isEmpty()) {
+            log.info("Cached negative entry for POI {} at {}m band (ttl={})", poiId, distance, ttl);
+        } else {
+            log.info("Cached {} stores for POI {} at {}m band", cachedStores.size(), poiId, distance);
+        }
+        return entry;
     }
 
     /**
      * 특정 POI의 모든 거리 밴드 캐시 삭제
      */
     public void deleteCache(Long poiId) {
-        Set<String> keys = redisTemplate.keys(String.format("poi:%d:stores:*", poiId));
-        if (!keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.debug("Evicted {} cache entries for POI {}", keys.size(), poiId);
-        }
+        // 거리 밴드는 SearchDistance로 고정되어 있으므로 키를 직접 구성 (KEYS 스캔 없음)
+        List<String> keys = Arrays.stream(SearchDistance.values())
+                .map(distance -> generateCacheKey(poiId, distance.getMeters()))
+                .toList();
+
+        Long deleted = redisTemplate.delete(keys);
+        log.debug("Evicted {} cache entries for POI {}", deleted, poiId);
     }
 
     // 연결된 스레드 풀에서 실행
@@ -116,46 +162,91 @@ public class CacheService {
     @EventListener
     @Transactional(readOnly = true)
     public void handleStoreCreated(StoreCreatedEvent event) {
-        log.info("Processing cache invalidation for new store: {} at ({}, {})",
+        log.info("Processing incremental cache patch for new store: {} at ({}, {})",
                 event.storeId(), event.latitude(), event.longitude());
 
         try {
-            // 영향받는 POI들 찾기
-            List<Poi> affectedPois = findAffectedPois(
+            // 영향받는 POI들과 새 가게까지의 거리
+            List<AffectedPoi> affectedPois = findAffectedPois(
                     event.latitude(),
                     event.longitude()
             );
 
-            int immediateInvalidations = 0;
-            int staleMarkings = 0;
-
-            for (Poi poi : affectedPois) {
-                if (poiAccessTrackingService.isHotspot(poi.getId())) {
-                    // 핫스팟은 자주 사용하므로 가용상을 보장하기 위해 stale 마킹만 함
-                    markCacheAsStale(poi.getId(), "new_store_added");
-                    staleMarkings++;
-                    log.debug("Marked hotspot POI {} as stale", poi.getId());
-                } else {
-                    // 일반 POI: 즉시 삭제
-                    deleteCache(poi.getId());
-                    immediateInvalidations++;
-                    log.debug("Invalidated cache for normal POI {}", poi.getId());
+            int patchedBands = 0;
+            int invalidatedBands = 0;
+            List<CacheKey> changedBands = new ArrayList<>();
+
+            for (AffectedPoi affected : affectedPois) {
+                StoreDistanceResult newStore = StoreDistanceResult.builder()
+                        .storeId(event.storeId())
+                        .distance(affected.distance())
+                        .build();
+
+                // 새 가게를 포함하는 반경의 밴드만 갱신 (나머지 밴드는 그대로 fresh 유지)
+                for (SearchDistance band : SearchDistance.values()) {
+                    if (affected.distance() > band.getMeters()) {
+                        continue;
+                    }
+
+                    if (patchCache(affected.poi().getId(), band.getMeters(), newStore)) {
+                        patchedBands++;
+                    } else {
+                        invalidatedBands++;
+                    }
+                    changedBands.add(new CacheKey(affected.poi().getId(), band.getMeters()));
                 }
             }
 
-            log.info("Cache invalidation completed - Immediate: {}, Stale marked: {}, Total POIs: {}",
-                    immediateInvalidations, staleMarkings, affectedPois.size());
+            // 패치 전 목록을 들고 있는 노드별 L1도 비워 다음 조회가 L2의 새 목록을 읽게 함
+            publishL1Invalidation(changedBands);
+
+            log.info("Cache patch completed - Patched bands: {}, Invalidated bands: {}, Total POIs: {}",
+                    patchedBands, invalidatedBands, affectedPois.size());
 
         } catch (Exception e) {
-            log.error("Failed to invalidate cache for store {}: {}",
+            log.error("Failed to patch cache for store {}: {}",
                     event.storeId(), e.getMessage(), e);
         }
     }
 
+    /**
+     * 모든 노드에 L1 무효화 전파 - "12:500,12:1000" (POI ID:거리 목록)
+     */
+    private void publishL1Invalidation(List<CacheKey> bands) {
+        if (bands.isEmpty()) {
+            return;
+        }
+
+        String message = bands.stream()
+                .map(band -> band.poiId() + ":" + band.distance())
+                .collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(MultiLevelCacheService.L1_INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파 실패 시에도 L1은 논리 만료 시각에 맞춰 제거됨
+            log.warn("Failed to publish L1 invalidation for {} bands: {}", bands.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 위치를 반경 안에 포함하는 POI 거리 밴드 목록 (해당 위치의 변경이 영향을 주는 캐시 키)
+     */
+    public List<CacheKey> findAffectedBands(Double latitude, Double longitude) {
+        List<CacheKey> bands = new ArrayList<>();
+        for (AffectedPoi affected : findAffectedPois(latitude, longitude)) {
+            for (SearchDistance band : SearchDistance.values()) {
+                if (affected.distance() <= band.getMeters()) {
+                    bands.add(new CacheKey(affected.poi().getId(), band.getMeters()));
+                }
+            }
+        }
+        return bands;
+    }
+
     /**
      * 새 가게 위치에서 영향받는 POI들 찾기
      */
-    private List<Poi> findAffectedPois(Double storeLatitude, Double storeLongitude) {
+    private List<AffectedPoi> findAffectedPois(Double storeLatitude, Double storeLongitude) {
         H3SearchStrategy.Strategy strategy = H3SearchStrategy.determineStrategy(MAX_AFFECTED_DISTANCE);
         long centerH3 = h3Utils.encode(storeLatitude, storeLongitude, strategy.resolution());
 
@@ -164,40 +255,91 @@ public class CacheService {
         List<Poi> candidatePois = poiRepository.findByH3Index7In(h3Cells);
 
         return candidatePois.stream()
-                .filter(poi -> {
-                    double distance = haversineCalculator.calculate(
-                            poi.getLatitude(), poi.getLongitude(),
-                            storeLatitude, storeLongitude
-                    );
-                    return distance <= MAX_AFFECTED_DISTANCE;
-                })
+                .map(poi -> new AffectedPoi(poi, haversineCalculator.calculate(
+                        poi.getLatitude(), poi.getLongitude(),
+                        storeLatitude, storeLongitude
+                )))
+                .filter(affected -> affected.distance() <= MAX_AFFECTED_DISTANCE)
                 .toList();
     }
 
-    private String generateCacheKey(Long poiId, int distance) {
-        return String.format(CACHE_KEY_PATTERN, poiId, distance);
-    }
+    /**
+     * 캐시된 밴드에 새 Store를 거리순으로 끼워 넣음 (값이 바뀌지 않았을 때만 교체, TTL 유지)
+     * - 캐시가 없으면 다음 미스에서 새 가게가 포함되므로 할 일이 없다.
+     * - 동시 갱신으로 계속 실패하면 해당 밴드만 삭제한다.
+     *
+     * @return 패치했거나 패치가 필요 없으면 true, 삭제로 대체했으면 false
+     */
+    private boolean patchCache(Long poiId, int distance, StoreDistanceResult newStore) {
+        String cacheKey = generateCacheKey(poiId, distance);
 
-    private List<StoreDistanceResult> convertToStoreDistanceResults(
-            Set<ZSetOperations.TypedTuple<Object>> cachedData) {
+        for (int attempt = 0; attempt < MAX_PATCH_ATTEMPTS; attempt++) {
+            Object raw = readCache(cacheKey);
+            if (raw == null) {
+                return true;
+            }
 
-        return cachedData.stream()
-                .map(tuple -> StoreDistanceResult.builder()
-                        .storeId(Long.valueOf(Objects.requireNonNull(tuple.getValue()).toString()))
-                        .distance(Objects.requireNonNull(tuple.getScore()).intValue())
-                        .build())
-                .sorted(Comparator.comparingInt(StoreDistanceResult::distance))
-                .collect(Collectors.toList());
+            StoreCacheEntry entry = getCacheEntry(cacheKey, raw);
+            if (entry == null) {
+                return false;
+            }
+
+            StoreCacheEntry patched = entry.withStore(newStore);
+            if (patched == entry) {
+                return true;
+            }
+
+            Long replaced = redisTemplate.execute(PATCH_SCRIPT, List.of(cacheKey), raw.toString(), patched.encode());
+            if (Long.valueOf(1L).equals(replaced)) {
+                log.debug("Patched store {} into POI {} at {}m band (version {})",
+                        newStore.storeId(), poiId, distance, patched.version());
+                return true;
+            }
+        }
+
+        log.warn("Concurrent updates on {}, falling back to invalidation", cacheKey);
+        redisTemplate.delete(cacheKey);
+        return false;
     }
 
     /**
-     * 모든 거리 밴드의 캐시를 stale로 마킹
+     * 캐시 원본 값 조회 - 타입이 다르거나(WRONGTYPE) 역직렬화할 수 없는 값은 미스로 보고 삭제
      */
-    private void markCacheAsStale(Long poiId, String reason) {
-        for (SearchDistance distance : SearchDistance.values()) {
-            if (hasCache(poiId, distance.getMeters())) {
-                metadataService.markAsStale(poiId, distance.getMeters(), reason);
-            }
+    private Object readCache(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(cacheKey);
+        } catch (RedisSystemException | SerializationException e) {
+            log.warn("Discarding unreadable cache entry {}: {}", cacheKey, e.getMessage());
+            redisTemplate.delete(cacheKey);
+            return null;
+        }
+    }
+
+    private StoreCacheEntry getCacheEntry(String cacheKey, Object cached) {
+        try {
+            return StoreCacheEntry.decode(cached.toString());
+        } catch (RuntimeException e) {
+            log.warn("Discarding malformed cache entry {}: {}", cacheKey, e.getMessage());
+            redisTemplate.delete(cacheKey);
+            return null;
+        }
+    }
+
+    private Duration resolveTtl(List<StoreDistanceResult> stores) {
+        Duration dynamicTtl = Duration.ofMinutes(thresholdService.getCacheTtlMinutes());
+        if (!stores.isEmpty() || dynamicTtl.compareTo(NEGATIVE_CACHE_TTL) < 0) {
+            return dynamicTtl;
         }
+        return NEGATIVE_CACHE_TTL;
+    }
+
+    private String generateCacheKey(Long poiId, int distance) {
+        return String.format(CACHE_KEY_PATTERN, poiId, distance);
+    }
+
+    public record CacheKey(Long poiId, int distance) {
+    }
+
+    private record AffectedPoi(Poi poi, int distance) {
     }
 }
@@ -1,92 +1,318 @@
 package com.domain.common.service;
 
-import com.domain.common.entity.Poi;
-import com.domain.common.repository.PoiRepository;
 import com.global.constants.SearchDistance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 접근 이력 기반 캐시 예열
+ * - 다음 1시간 동안 많이 조회될 POI를 같은 요일/시간대의 과거 접근 이력으로 예측해 상위 K개를 미리 계산한다.
+ * - 예열은 제한된 병렬 실행기에서 DB/Redis 호출 속도를 제한하며 수행한다.
+ * - 예열 대상 적중률과 예열 구간의 히트율 상승폭을 기록한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CacheWarmingService {
 
-    private final PoiRepository poiRepository;
     private final SpatialSearchService spatialSearchService;
     private final PoiAccessTrackingService accessTrackingService;
+    private final CacheMetricsService cacheMetricsService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 예열 리스 - cache:warming:lease:2025081015 (해당 시간대 예열은 한 노드만 수행, L2는 공유되므로)
+    private static final String WARMING_LEASE_KEY = "cache:warming:lease:";
+    private static final Duration WARMING_LEASE_TTL = Duration.ofMinutes(30);
+    private static final DateTimeFormatter WINDOW_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    // 예열할 POI 수
+    private static final int TOP_K = 30;
+    // 같은 요일/시간대 이력을 몇 주 전까지 볼지
+    private static final int HISTORY_WEEKS = 4;
+    private static final double SAME_WEEKDAY_WEIGHT = 1.0;
+    private static final double PREVIOUS_DAY_WEIGHT = 0.5;
+
+    // 예열 병렬도와 자원별 초당 호출 한도
+    private static final int WARMING_PARALLELISM = 4;
+    private static final int WARMING_QUEUE_CAPACITY = 256;
+    private static final double DB_PERMITS_PER_SECOND = 20;
+    private static final double REDIS_PERMITS_PER_SECOND = 200;
+    private static final Duration WARMING_TIMEOUT = Duration.ofMinutes(9);
+
+    private final RateLimiter dbLimiter = new RateLimiter(DB_PERMITS_PER_SECOND);
+    private final RateLimiter redisLimiter = new RateLimiter(REDIS_PERMITS_PER_SECOND);
+
+    private ThreadPoolExecutor executor;
+    private Counter warmedCounter;
+    private Counter freshCounter;
+    private Counter failedCounter;
+
+    private volatile WarmingPlan lastPlan;
+    private volatile WarmingReport lastReport;
 
     /**
-     * 출근 시간 전 캐시 예열 (오전 7시)
+     * 예열 계획과 실행 결과
      */
-    @Scheduled(cron = "0 0 7 * * MON-FRI")
-    public void warmCacheForMorningRush() {
-        log.info("Starting morning rush cache warming");
-        warmCacheForAreas(List.of("신논현역", "홍대입구역", "명동역"));
+    public record WarmingPlan(
+            LocalDateTime windowStart,
+            List<Long> poiIds,
+            int warmed,
+            int skippedFresh,
+            int failed
+    ) {
+    }
+
+    /**
+     * 예열 효과 - 예열 대상 중 실제 조회된 비율과 직전 1시간 대비 히트율 상승폭
+     */
+    public record WarmingReport(
+            LocalDateTime windowStart,
+            int planned,
+            int accessed,
+            double precision,
+            double hitRateBefore,
+            double hitRateDuring,
+            double hitRateLift
+    ) {
+    }
+
+    @PostConstruct
+    void initialize() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                WARMING_PARALLELISM,
+                WARMING_PARALLELISM,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WARMING_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "CacheWarming-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 호출한 스케줄러 스레드에서 실행되지 않도록 큐가 차면 거절 (실패로 집계)
+                new ThreadPoolExecutor.AbortPolicy());
+
+        warmedCounter = meterRegistry.counter("cache.warming.tasks", "result", "warmed");
+        freshCounter = meterRegistry.counter("cache.warming.tasks", "result", "fresh");
+        failedCounter = meterRegistry.counter("cache.warming.tasks", "result", "failed");
+        Gauge.builder("cache.warming.hit.rate.lift", this, service ->
+                        service.lastReport != null ? service.lastReport.hitRateLift() : 0)
+                .description("예열 구간의 히트율 - 직전 1시간 히트율 (%p)")
+                .register(meterRegistry);
+        Gauge.builder("cache.warming.precision", this, service ->
+                        service.lastReport != null ? service.lastReport.precision() : 0)
+                .description("예열한 POI 중 실제로 조회된 비율")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
     }
 
     /**
-     * 점심 시간 전 캐시 예열 (오전 11시 30분)
+     * 다음 시간대 시작 10분 전에 예열
+     * - 작업만 제출하고 반환하며, 완료(또는 제한 시간 초과) 시 결과를 기록한다.
      */
-    @Scheduled(cron = "0 30 11 * * MON-FRI")
-    public void warmCacheForLunch() {
-        log.info("Starting lunch time cache warming");
-        warmCacheForAreas(List.of("종로3가역", "종로5가역", "신촌역"));
+    @Scheduled(cron = "0 50 * * * *")
+    public void warmForNextWindow() {
+        LocalDateTime windowStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        if (!tryAcquireLease(windowStart)) {
+            return;
+        }
+
+        List<Long> poiIds = planTopPois(windowStart);
+        log.info("Warming {} POIs predicted for window {}", poiIds.size(), windowStart);
+
+        warm(windowStart, poiIds).thenAccept(plan -> {
+            lastPlan = plan;
+            log.info("Cache warming completed for window {} - Warmed: {}, Fresh: {}, Failed: {}",
+                    windowStart, plan.warmed(), plan.skippedFresh(), plan.failed());
+        });
     }
 
     /**
-     * 저녁 시간 전 캐시 예열 (오후 5시 30분)
+     * 직전 예열 구간이 끝난 뒤 효과 측정
      */
-    @Scheduled(cron = "0 30 17 * * *")
-    public void warmCacheForDinner() {
-        log.info("Starting dinner time cache warming");
-        warmCacheForAreas(List.of("신논현역", "홍대입구역", "명동역", "종로3가역", "종로5가역", "신촌역"));
+    @Scheduled(cron = "0 5 * * * *")
+    public void evaluateWarmingEffect() {
+        WarmingPlan plan = lastPlan;
+        LocalDateTime endedWindow = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        if (plan == null || !plan.windowStart().equals(endedWindow) || plan.poiIds().isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Long> actualCounts = accessTrackingService.getHourlyAccessCounts(endedWindow);
+            int accessed = (int) plan.poiIds().stream().filter(actualCounts::containsKey).count();
+
+            // 구간 끝 직전 시점 기준으로 1시간씩 조회 (다음 구간의 첫 버킷 제외)
+            double hitRateBefore = cacheMetricsService
+                    .getClusterMetrics(endedWindow.minusMinutes(1), Duration.ofHours(1)).hitRate();
+            double hitRateDuring = cacheMetricsService
+                    .getClusterMetrics(endedWindow.plusHours(1).minusMinutes(1), Duration.ofHours(1)).hitRate();
+
+            lastReport = new WarmingReport(
+                    endedWindow,
+                    plan.poiIds().size(),
+                    accessed,
+                    (double) accessed / plan.poiIds().size(),
+                    hitRateBefore,
+                    hitRateDuring,
+                    hitRateDuring - hitRateBefore
+            );
+            log.info("Cache warming effect for window {}: {}", endedWindow, lastReport);
+        } catch (Exception e) {
+            log.warn("Failed to evaluate cache warming effect: {}", e.getMessage());
+        }
     }
 
-    @Scheduled(fixedDelay = 1800000) // 30분
-    public void warmHotspotCaches() {
-        log.info("Warming hotspot POI caches");
+    public WarmingPlan getLastPlan() {
+        return lastPlan;
+    }
 
-        // 핫스팟 POI들 조회
-        List<Poi> hotspotPois = poiRepository.findAll().stream()
-                .filter(poi -> accessTrackingService.isHotspot(poi.getId()))
-                .limit(10) // 상위 50개만
+    public WarmingReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 같은 요일/시간대의 과거 접근 이력(최근 4주)과 전일 같은 시간대로 다음 구간 조회량을 예측
+     */
+    private List<Long> planTopPois(LocalDateTime windowStart) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (int week = 1; week <= HISTORY_WEEKS; week++) {
+            addScores(scores, accessTrackingService.getHourlyAccessCounts(windowStart.minusWeeks(week)),
+                    SAME_WEEKDAY_WEIGHT / HISTORY_WEEKS);
+        }
+        addScores(scores, accessTrackingService.getHourlyAccessCounts(windowStart.minusDays(1)), PREVIOUS_DAY_WEIGHT);
+
+        // 이력이 없는 최근 인기 POI도 포함 (접근률은 시간당 환산값)
+        for (Long poiId : accessTrackingService.getHotspotPoiIds()) {
+            scores.merge(poiId, accessTrackingService.getAccessRate(poiId), Math::max);
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(TOP_K)
+                .map(Map.Entry::getKey)
                 .toList();
+    }
+
+    private void addScores(Map<Long, Double> scores, Map<Long, Long> counts, double weight) {
+        counts.forEach((poiId, count) -> scores.merge(poiId, count * weight, Double::sum));
+    }
 
-        int warmedCount = 0;
-        for (Poi poi : hotspotPois) {
+    private CompletableFuture<WarmingPlan> warm(LocalDateTime windowStart, List<Long> poiIds) {
+        AtomicInteger warmed = new AtomicInteger();
+        AtomicInteger fresh = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        for (Long poiId : poiIds) {
             for (SearchDistance distance : SearchDistance.values()) {
                 try {
-                    spatialSearchService.getNearbyStoresWithDistance(poi.getId(), distance.getMeters());
-                    warmedCount++;
-                } catch (Exception e) {
-                    log.error("Failed to warm cache for POI {} at {}m: {}",
-                            poi.getId(), distance, e.getMessage());
+                    tasks.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            redisLimiter.acquire();
+                            if (!spatialSearchService.needsWarming(poiId, distance.getMeters())) {
+                                fresh.incrementAndGet();
+                                freshCounter.increment();
+                                return;
+                            }
+
+                            dbLimiter.acquire();
+                            spatialSearchService.warmCache(poiId, distance.getMeters());
+                            warmed.incrementAndGet();
+                            warmedCounter.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            failed.incrementAndGet();
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                            failedCounter.increment();
+                            log.error("Failed to warm cache for POI {} at {}m: {}",
+                                    poiId, distance.getMeters(), e.getMessage());
+                        }
+                    }, executor));
+                } catch (RejectedExecutionException e) {
+                    failed.incrementAndGet();
+                    failedCounter.increment();
                 }
             }
         }
 
-        log.info("Warmed {} hotspot caches", warmedCount);
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                .orTimeout(WARMING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((ignored, e) -> {
+                    if (e instanceof TimeoutException) {
+                        log.warn("Cache warming for window {} did not finish within {}", windowStart, WARMING_TIMEOUT);
+                    } else if (e != null) {
+                        log.error("Cache warming for window {} failed: {}", windowStart, e.getMessage());
+                    }
+                    return new WarmingPlan(windowStart, poiIds, warmed.get(), fresh.get(), failed.get());
+                });
     }
 
+    private boolean tryAcquireLease(LocalDateTime windowStart) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    WARMING_LEASE_KEY + windowStart.format(WINDOW_FORMATTER),
+                    UUID.randomUUID().toString(),
+                    WARMING_LEASE_TTL);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("Failed to acquire cache warming lease: {}", e.getMessage());
+            return false;
+        }
+    }
 
-    private void warmCacheForAreas(List<String> areas) {
-        for (String area : areas) {
-            try {
-                List<Poi> pois = poiRepository.findByName(area);
+    /**
+     * 고정 간격 호출 속도 제한 (초당 permitsPerSecond회)
+     */
+    private static final class RateLimiter {
 
-                for (Poi poi : pois) {
-                    for (SearchDistance distance : SearchDistance.values()) {
-                        spatialSearchService.getNearbyStoresWithDistance(poi.getId(), distance.getMeters());
-                    }
-                }
+        private final long intervalNanos;
+        private final AtomicLong nextPermitAt = new AtomicLong(System.nanoTime());
+
+        private RateLimiter(double permitsPerSecond) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        }
 
-                log.info("Warmed cache for area: {}", area);
-            } catch (Exception e) {
-                log.error("Failed to warm cache for area {}: {}", area, e.getMessage());
+        private void acquire() throws InterruptedException {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitAt.getAndAccumulate(now,
+                    (next, current) -> Math.max(next, current) + intervalNanos));
+            long waitNanos = permitAt - now;
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
             }
         }
     }
@@ -1,10 +1,33 @@
 package com.domain.common.service;
 
+import com.domain.common.config.CacheTuningProperties;
+import com.domain.common.dto.CacheTuningAudit;
+import com.domain.common.dto.CacheTuningState;
+import com.domain.common.event.CacheTuningChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 설정 자동 튜닝
+ * - 조회 p95 지연과 재계산(DB) 부하를 목표값과 비교해 AIMD로 TTL, 핫스팟 임계값, L1 크기, 재계산 동시성을 함께 조정한다.
+ * - 모든 결정은 Redis 감사 로그에 남기며, dry-run 모드에서는 기록만 하고 반영하지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -12,83 +35,160 @@ public class DynamicThresholdService {
 
     private final CacheMetricsService metricsService;
     private final SystemMetricsService systemMetricsService;
+    private final MeterRegistry meterRegistry;
+    private final CacheTuningProperties tuningProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 튜닝 결정 감사 로그 - cache:tuning:audit (list, 최신 결정이 앞)
+    private static final String AUDIT_KEY = "cache:tuning:audit";
+    private static final int MAX_AUDIT_ENTRIES = 500;
+    private static final Duration METRICS_WINDOW = Duration.ofMinutes(15);
+    private static final double P95 = 0.95;
+
+    // 동적 설정값 (초기값)
+    private volatile CacheTuningState state = CacheTuningState.builder()
+            .cacheTtlMinutes(30)
+            .hotspotThreshold(100)
+            .l1MaximumSize(10)
+            .refreshConcurrency(4)
+            .build();
+
+    private AimdTuner tuner;
+    private double lastRecomputeCount = -1;
+    private long lastAdjustedAt;
+
+    @PostConstruct
+    void initialize() {
+        tuner = new AimdTuner(tuningProperties.getTargetP95Millis(), tuningProperties.getRecomputeBudgetPerMinute());
+    }
 
-    // 동적 임계값
-    private volatile int hotspotThreshold = 100;
-    private volatile int cacheTtlMinutes = 30;
-
-    private static final double CPU_HIGH_THRESHOLD = 0.8;
-    private static final double CPU_LOW_THRESHOLD = 0.3;
-    private static final double MEMORY_HIGH_THRESHOLD = 0.85;
-
-    private static final double MIN_HIT_RATE = 70.0;
-    private static final double MAX_MISS_RATE = 30.0;
-    private static final double MAX_STALE_RATE = 20.0;
+    /**
+     * 기동 시 초기 설정값을 L1/재계산 스케줄러에 맞춰 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishInitialState() {
+        eventPublisher.publishEvent(new CacheTuningChangedEvent(state));
+    }
 
-    @Scheduled(fixedDelay = 300000)
+    @Scheduled(fixedDelay = 60000)
     public void adjustThreshold() {
         try {
-            // 여기는 실제 cpu 사용률
-            double cpuUsage = systemMetricsService.getCpuUsage();
-            // 여기는 jvm 메모리 사용률
-            double memoryUsage = systemMetricsService.getMemoryUsage();
-
-            CacheMetricsService.CacheMetrics metrics = metricsService.getSystemMetrics();
-
-            if (cpuUsage > CPU_HIGH_THRESHOLD) {
-                decreaseHotspotThreshold();
-                log.info("High CPU usage ({}%), decreased hotspot threshold to {}",
-                        cpuUsage * 100, hotspotThreshold);
-            } else if  (cpuUsage < CPU_LOW_THRESHOLD) {
-                increaseHotspotThreshold();
-                log.info("Low CPU usage ({}%), increased hotspot threshold to {}",
-                        cpuUsage * 100, hotspotThreshold);
+            AimdTuner.Signals signals = collectSignals();
+            if (signals == null) {
+                return;
             }
 
-            if (memoryUsage > MEMORY_HIGH_THRESHOLD) {
-                decreaseCacheTtl();
-                log.info("Low CPU usage ({}%), increased hotspot threshold to {}",
-                        cpuUsage * 100, hotspotThreshold);
-            }
+            CacheTuningState before = state;
+            AimdTuner.Decision decision = tuner.decide(before, signals);
+            boolean changed = decision.changed(before);
+            boolean apply = changed && !tuningProperties.isDryRun();
 
-            if (metrics.hitRate() < MIN_HIT_RATE) {
-                increaseCacheTtl();
-                log.info("Low hit rate ({}%), increased cache TTL to {} minutes",
-                        metrics.hitRate(), cacheTtlMinutes);
+            if (apply) {
+                state = decision.next();
+                eventPublisher.publishEvent(new CacheTuningChangedEvent(decision.next()));
             }
 
-            if (metrics.staleRate() > MAX_STALE_RATE) {
-                // Stale 제공률 높음 - 갱신 주기 단축
-                decreaseHotspotThreshold();
-                log.info("High stale rate ({}%), adjusted hotspot threshold to {}",
-                        metrics.staleRate(), hotspotThreshold);
+            if (changed) {
+                log.info("{}Cache tuning {} -> {} ({})",
+                        tuningProperties.isDryRun() ? "[DRY-RUN] " : "",
+                        before, decision.next(), String.join(", ", decision.reasons()));
             }
+
+            recordAudit(CacheTuningAudit.builder()
+                    .decidedAt(LocalDateTime.now())
+                    .dryRun(tuningProperties.isDryRun())
+                    .applied(apply)
+                    .signals(signals)
+                    .before(before)
+                    .after(decision.next())
+                    .reasons(decision.reasons())
+                    .build());
         } catch (Exception e) {
             log.error("Failed to adjust thresholds: {}", e.getMessage());
         }
     }
 
-    private void decreaseHotspotThreshold() {
-        hotspotThreshold = Math.max(50, hotspotThreshold - 10);
+    /**
+     * 최근 튜닝 결정 기록 (최신순)
+     */
+    public List<Object> getRecentDecisions(int limit) {
+        List<Object> decisions = redisTemplate.opsForList().range(AUDIT_KEY, 0, limit - 1L);
+        return decisions != null ? decisions : List.of();
     }
 
-    private void increaseHotspotThreshold() {
-        hotspotThreshold = Math.min(200, hotspotThreshold + 10);
+    public CacheTuningState getState() {
+        return state;
     }
 
-    private void decreaseCacheTtl() {
-        cacheTtlMinutes = Math.max(5, cacheTtlMinutes - 5);
+    public int getHotspotThreshold() {
+        return state.hotspotThreshold();
     }
 
-    private void increaseCacheTtl() {
-        cacheTtlMinutes = Math.min(60, cacheTtlMinutes + 5);
+    public int getCacheTtlMinutes() {
+        return state.cacheTtlMinutes();
     }
 
-    public int getHotspotThreshold() {
-        return hotspotThreshold;
+    /**
+     * 튜닝 입력 지표 수집 (첫 실행은 재계산 횟수 기준값만 잡고 건너뜀)
+     */
+    private AimdTuner.Signals collectSignals() {
+        long now = System.currentTimeMillis();
+        double recomputeCount = timerCount(SpatialSearchService.RECOMPUTE_TIMER);
+        double previousCount = lastRecomputeCount;
+        long previousAt = lastAdjustedAt;
+        lastRecomputeCount = recomputeCount;
+        lastAdjustedAt = now;
+
+        if (previousCount < 0) {
+            return null;
+        }
+
+        double elapsedMinutes = Math.max(1.0 / 60, (now - previousAt) / 60000.0);
+        CacheMetricsService.CacheMetrics metrics = metricsService.getClusterMetrics(METRICS_WINDOW);
+        if (metrics.hits() + metrics.misses() == 0) {
+            metrics = metricsService.getSystemMetrics();
+        }
+
+        return new AimdTuner.Signals(
+                lookupP95Millis(),
+                (recomputeCount - previousCount) / elapsedMinutes,
+                (int) gaugeValue(CacheRefreshScheduler.QUEUE_DEPTH_GAUGE),
+                metrics.hitRate(),
+                systemMetricsService.getMemoryUsage()
+        );
     }
 
-    public int getCacheTtlMinutes() {
-        return cacheTtlMinutes;
+    private double lookupP95Millis() {
+        Timer timer = meterRegistry.find(SpatialSearchService.LOOKUP_TIMER).timer();
+        if (timer == null) {
+            return 0;
+        }
+
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == P95) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    private double timerCount(String name) {
+        Timer timer = meterRegistry.find(name).timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private double gaugeValue(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+
+    private void recordAudit(CacheTuningAudit audit) {
+        try {
+            redisTemplate.opsForList().leftPush(AUDIT_KEY, audit);
+            redisTemplate.opsForList().trim(AUDIT_KEY, 0, MAX_AUDIT_ENTRIES - 1L);
+        } catch (Exception e) {
+            log.warn("Failed to record cache tuning audit: {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,50 @@
+package com.domain.common.service;
+
+/**
+ * 핫스팟 판정 로직 (Redis/Spring 의존성 없음)
+ * - 분 단위 접근 횟수로 지수 감쇠 접근률(시간당 환산)을 갱신한다.
+ * - 승격/강등 임계값을 분리(hysteresis)하여 임계값 근처에서 상태가 반복 전환되지 않도록 한다.
+ */
+public class HotspotDetector {
+
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final double decayPerMinute;   // 1분마다 기존 접근률에 곱하는 감쇠 계수
+    private final double demoteRatio;      // 강등 임계값 = 승격 임계값 * demoteRatio
+
+    public HotspotDetector(double halfLifeMinutes, double demoteRatio) {
+        if (halfLifeMinutes <= 0) {
+            throw new IllegalArgumentException("halfLifeMinutes must be positive");
+        }
+        if (demoteRatio <= 0 || demoteRatio > 1) {
+            throw new IllegalArgumentException("demoteRatio must be in (0, 1]");
+        }
+        this.decayPerMinute = Math.pow(0.5, 1.0 / halfLifeMinutes);
+        this.demoteRatio = demoteRatio;
+    }
+
+    /**
+     * 1분 경과 후의 접근률
+     * - 분당 c회가 계속되면 접근률은 시간당 60c로 수렴한다.
+     *
+     * @param previousRate 직전 접근률 (시간당 환산)
+     * @param minuteCount  방금 끝난 1분 동안의 접근 횟수
+     */
+    public double nextRate(double previousRate, long minuteCount) {
+        return decayPerMinute * previousRate + (1 - decayPerMinute) * MINUTES_PER_HOUR * minuteCount;
+    }
+
+    /**
+     * 핫스팟 여부 판정
+     *
+     * @param currentlyHot 현재 핫스팟 여부
+     * @param rate         접근률 (시간당 환산)
+     * @param threshold    승격 임계값 (시간당 접근 횟수)
+     */
+    public boolean shouldBeHot(boolean currentlyHot, double rate, int threshold) {
+        if (currentlyHot) {
+            return rate >= threshold * demoteRatio;
+        }
+        return rate >= threshold;
+    }
+}
@@ -1,29 +1,62 @@
 package com.domain.common.service;
 
+import com.domain.common.dto.redis.StoreCacheEntry;
+import com.domain.common.event.CacheTuningChangedEvent;
 import com.domain.review.dto.response.StoreDistanceResult;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+/**
+ * L1(Caffeine) + L2(Redis) 멀티 레벨 캐시
+ * - L1에 올라간 키와 버전을 주기적으로, 그리고 종료 시 Redis에 스냅샷으로 남긴다.
+ * - 새로 뜬 인스턴스(blue/green 전환 포함)는 웹 서버가 요청을 받기 전에 스냅샷을 읽어
+ *   L2의 최신 엔트리로 L1을 채우므로 배포 직후에도 핫스팟이 L1에서 제공된다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class MultiLevelCacheService {
+public class MultiLevelCacheService implements SmartLifecycle {
 
     private final CacheService l2Cache;
     private final CacheMetricsService cacheMetricsService;
-    private final CacheMetadataService cacheMetadataService;
     private final PoiAccessTrackingService accessTrackingService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // L1 무효화 채널 - "12:500,12:1000" (L2가 바뀐 POI ID:거리 목록)
+    public static final String L1_INVALIDATION_CHANNEL = "cache:l1:invalidation";
+    // L1 스냅샷 - cache:l1:snapshot (hash, field=L1 키, value=엔트리 버전)
+    private static final String L1_SNAPSHOT_KEY = "cache:l1:snapshot";
+    // 이보다 오래된 스냅샷은 복원하지 않음 (주기 저장이 멈춘 경우)
+    private static final Duration L1_SNAPSHOT_TTL = Duration.ofMinutes(10);
+    // 웹 서버 시작(WebServerStartStopLifecycle)보다 먼저 복원하고, graceful shutdown 이후에 저장
+    private static final int SNAPSHOT_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private volatile boolean running;
 
     // L1 캐시 (Caffeine - 로컬 메모리)
-    private final Cache<String, List<StoreDistanceResult>> l1Cache = Caffeine.newBuilder()
-            .maximumSize(10) // 최대 10개 항목
-            .expireAfterWrite(60, TimeUnit.MINUTES) // 60분 후 만료
+    private final Cache<String, StoreCacheEntry> l1Cache = Caffeine.newBuilder()
+            .maximumSize(10) // 최대 10개 항목 (자동 튜닝으로 조정됨)
+            .expireAfter(new LogicalExpiry()) // 엔트리의 논리 만료 시각에 맞춰 제거 (L1은 stale 데이터를 보관하지 않음)
             .recordStats() // 통계 수집
             .build();
 
@@ -37,54 +70,74 @@ public class MultiLevelCacheService {
 
     /**
      * 멀티 레벨 캐시 조회
+     *
+     * @return 캐시 엔트리 (논리 만료 후 stale grace 기간의 엔트리, 빈 목록의 negative 엔트리 포함), 없으면 null
      */
-    public List<StoreDistanceResult> get(Long poiId, int distance) {
+    public StoreCacheEntry get(Long poiId, int distance) {
         String key = generateKey(poiId, distance);
 
-        List<StoreDistanceResult> l1Result = l1Cache.getIfPresent(key);
-        if (Objects.nonNull(l1Result) && !l1Result.isEmpty()) {
+        StoreCacheEntry l1Result = l1Cache.getIfPresent(key);
+        if (Objects.nonNull(l1Result)) {
             log.info("L1 cache hit for {}", key);
             cacheMetricsService.recordHit(poiId, false);
             return l1Result;
         }
 
-        if (l2Cache.hasCache(poiId, distance)) {
-            List<StoreDistanceResult> l2Result = l2Cache.getCache(poiId, distance);
+        StoreCacheEntry l2Result = l2Cache.getCache(poiId, distance);
+        if (Objects.nonNull(l2Result)) {
+            boolean isStale = l2Result.isExpired(System.currentTimeMillis());
 
-            if (Objects.nonNull(l2Result) && !l2Result.isEmpty()) {
-                if (accessTrackingService.isHotspot(poiId)) {
-                    l1Cache.put(key, l2Result);
-                    log.info("L2 cache hit for HOTSPOT {}, promoted to L1", key);
-                } else {
-                    log.debug("L2 cache hit for normal POI {}, not promoted", key);
-                }
-                boolean isStale = cacheMetadataService.isStale(poiId, distance);
-                cacheMetricsService.recordHit(poiId, isStale);
-                log.info("L2 cache hit for {}, promoted to L1", key);
-
-                return l2Result;
+            if (!isStale && accessTrackingService.isHotspot(poiId)) {
+                l1Cache.put(key, l2Result);
+                log.info("L2 cache hit for HOTSPOT {}, promoted to L1", key);
+            } else {
+                log.debug("L2 cache hit for {}, not promoted (stale={})", key, isStale);
             }
+            cacheMetricsService.recordHit(poiId, isStale);
+
+            return l2Result;
         }
 
         log.info("Cache miss for {}", key);
         cacheMetricsService.recordMiss(poiId);
-        return Collections.emptyList();
+        return null;
+    }
+
+    @PostConstruct
+    void initialize() {
+        listenerContainer.addMessageListener(this::onL1Invalidation, new ChannelTopic(L1_INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 다른 노드의 재계산 결과 확인용 L2 조회 (메트릭 기록 및 L1 승격 없음)
+     */
+    public StoreCacheEntry peekL2(Long poiId, int distance) {
+        return l2Cache.getCache(poiId, distance);
     }
 
     /**
      * 멀티 레벨 캐시 저장
+     *
+     * @param computeMillis 재계산에 걸린 시간
      */
-    public void put(Long poiId, int distance, List<StoreDistanceResult> data) {
+    public void put(Long poiId, int distance, List<StoreDistanceResult> data, long computeMillis) {
         String key = generateKey(poiId, distance);
 
+        StoreCacheEntry entry = l2Cache.saveCache(poiId, distance, data, computeMillis);
+
         if (accessTrackingService.isHotspot(poiId)) {
-            l1Cache.put(key, data);
+            l1Cache.put(key, entry);
             log.info("Saved HOTSPOT to L1 and L2 cache: {}", key);
         } else {
             log.info("Saved to L2 cache only (non-hotspot): {}", key);
         }
+    }
 
-        l2Cache.saveCache(poiId, distance, data);
+    /**
+     * L1에서만 거리 밴드 제거 (L2가 다른 경로로 갱신된 경우, 다음 조회가 L2를 읽도록)
+     */
+    public void evictL1(List<CacheService.CacheKey> bands) {
+        bands.forEach(band -> l1Cache.invalidate(generateKey(band.poiId(), band.distance())));
     }
 
     /**
@@ -92,7 +145,7 @@ public class MultiLevelCacheService {
      */
     public void evict(Long poiId) {
         // L1 캐시에서 해당 POI의 모든 거리 삭제
-        l1Cache.asMap().keySet().removeIf(key -> key.startsWith("poi:" + poiId));
+        l1Cache.asMap().keySet().removeIf(key -> key.startsWith("poi:" + poiId + ":"));
 
         // L2 캐시 삭제
         l2Cache.deleteCache(poiId);
@@ -100,6 +153,114 @@ public class MultiLevelCacheService {
         log.info("Evicted from all cache levels: POI {}", poiId);
     }
 
+    /**
+     * 자동 튜닝된 L1 최대 크기 반영
+     */
+    @EventListener
+    public void onTuningChanged(CacheTuningChangedEvent event) {
+        int maximumSize = event.state().l1MaximumSize();
+        l1Cache.policy().eviction().ifPresent(eviction -> {
+            if (eviction.getMaximum() != maximumSize) {
+                eviction.setMaximum(maximumSize);
+                log.info("L1 cache maximum size set to {}", maximumSize);
+            }
+        });
+    }
+
+    /**
+     * L1 스냅샷 주기 저장 (비정상 종료나 blue/green 전환 중 기존 슬롯이 아직 떠 있는 경우 대비)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void saveSnapshot() {
+        Map<String, Object> versions = new HashMap<>();
+        l1Cache.asMap().forEach((key, entry) -> versions.put(key, entry.version()));
+        if (versions.isEmpty()) {
+            // 다른 노드가 남긴 스냅샷을 빈 스냅샷으로 덮어쓰지 않음
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.delete(L1_SNAPSHOT_KEY);
+                    ops.opsForHash().putAll(L1_SNAPSHOT_KEY, versions);
+                    ops.expire(L1_SNAPSHOT_KEY, L1_SNAPSHOT_TTL);
+                    return null;
+                }
+            });
+            log.debug("Saved L1 snapshot with {} entries", versions.size());
+        } catch (Exception e) {
+            log.warn("Failed to save L1 snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * L1 스냅샷 복원
+     * - 값은 L2에서 다시 읽고, L2 엔트리가 없거나 논리 만료됐거나 스냅샷보다 오래된 버전이면 건너뛴다.
+     *
+     * @return 복원된 엔트리 수
+     */
+    public int restoreSnapshot() {
+        try {
+            Map<Object, Object> snapshot = redisTemplate.opsForHash().entries(L1_SNAPSHOT_KEY);
+            if (snapshot.isEmpty()) {
+                return 0;
+            }
+
+            Map<CacheService.CacheKey, Long> snapshotVersions = new HashMap<>();
+            snapshot.forEach((key, version) -> {
+                CacheService.CacheKey cacheKey = parseKey(key.toString());
+                if (cacheKey != null && version instanceof Number number) {
+                    snapshotVersions.put(cacheKey, number.longValue());
+                }
+            });
+
+            Map<CacheService.CacheKey, StoreCacheEntry> entries =
+                    l2Cache.getCaches(List.copyOf(snapshotVersions.keySet()));
+            long now = System.currentTimeMillis();
+            int restored = 0;
+            for (Map.Entry<CacheService.CacheKey, StoreCacheEntry> entry : entries.entrySet()) {
+                StoreCacheEntry l2Entry = entry.getValue();
+                if (l2Entry.isExpired(now) || l2Entry.version() < snapshotVersions.get(entry.getKey())) {
+                    continue;
+                }
+                l1Cache.put(generateKey(entry.getKey().poiId(), entry.getKey().distance()), l2Entry);
+                restored++;
+            }
+
+            log.info("Restored {} of {} L1 entries from snapshot", restored, snapshotVersions.size());
+            return restored;
+        } catch (Exception e) {
+            log.warn("Failed to restore L1 snapshot, starting with empty L1: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public void start() {
+        restoreSnapshot();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        saveSnapshot();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SNAPSHOT_PHASE;
+    }
+
     /**
      * L1 캐시 통계 조회
      */
@@ -115,10 +276,64 @@ public class MultiLevelCacheService {
     }
 
     public Map<String, List<StoreDistanceResult>> getL1Contents() {
-        return new HashMap<>(l1Cache.asMap()); // 스냅샷 생성하여 반환
+        // 스냅샷 생성하여 반환
+        return l1Cache.asMap().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stores()));
+    }
+
+    private void onL1Invalidation(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+
+        List<CacheService.CacheKey> bands = new ArrayList<>();
+        for (String band : body.toString().split(",")) {
+            CacheService.CacheKey key = parseKey("poi:" + band.trim());
+            if (key != null) {
+                bands.add(key);
+            }
+        }
+        evictL1(bands);
     }
 
     private String generateKey(Long poiId, int distance) {
         return "poi:" + poiId + ":" + distance;
     }
+
+    private CacheService.CacheKey parseKey(String key) {
+        String[] parts = key.split(":");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new CacheService.CacheKey(Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * L1 엔트리를 논리 만료 시각(expiresAt)까지만 유지
+     */
+    private static class LogicalExpiry implements Expiry<String, StoreCacheEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, StoreCacheEntry value, long currentTime) {
+            long remainingMillis = value.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoreCacheEntry value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoreCacheEntry value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -1,181 +1,498 @@
 package com.domain.common.service;
 
+import com.domain.common.config.HotspotProperties;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class PoiAccessTrackingService {
+public class PoiAccessTrackingService implements SmartLifecycle {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final DynamicThresholdService thresholdService;
+    private final HotspotProperties hotspotProperties;
+    private final RedisMessageListenerContainer listenerContainer;
 
     // redis 관련 key랑 상수들은 redisConstants로 이관 가능
-    // 접근 횟수 카운트 - poi:access:count:123, 150 (poi 123번에 조회횟수 150)
-    private static final String ACCESS_COUNT_KEY = "poi:access:count:";
-    // 핫스팟 상태 - poi:hotspot:123, true (poi 123번의 핫스팟 유무)
-    private static final String HOTSPOT_STATUS_KEY = "poi:hotspot:";
+    // 분 단위 접근 횟수 버킷 - poi:access:counts:202508101405 (hash, field=poiId, value=해당 1분간 조회 횟수)
+    private static final String ACCESS_COUNT_BUCKET_KEY = "poi:access:counts:";
+    // 시간대별 접근 이력 - poi:access:hourly:2025081014 (hash, field=poiId, value=해당 1시간 조회 횟수, 캐시 예열 계획용)
+    private static final String HOURLY_ACCESS_KEY = "poi:access:hourly:";
+    // 지수 감쇠 접근률 - poi:access:rates (sorted set, member=poiId, score=시간당 환산 접근률)
+    private static final String ACCESS_RATE_KEY = "poi:access:rates";
+    // 접근률에 반영을 마친 마지막 분 버킷 - poi:access:rates:processed, "202508101404"
+    private static final String ACCESS_RATE_PROCESSED_KEY = "poi:access:rates:processed";
+    // 핫스팟 평가 리더 리스 - 한 노드만 접근률을 갱신
+    private static final String EVALUATION_LEASE_KEY = "poi:hotspot:evaluation:lease";
+    // 핫스팟 승격/강등 이벤트 채널 - "promote:123", "demote:123"
+    private static final String HOTSPOT_EVENT_CHANNEL = "poi:hotspot:events";
+    private static final String PROMOTE_EVENT = "promote";
+    private static final String DEMOTE_EVENT = "demote";
+    // 핫스팟 목록 - poi:hotspots (sorted set, member=poiId, score=핫스팟 만료 시각 epoch millis)
+    private static final String HOTSPOT_SET_KEY = "poi:hotspots";
     // 마지막 접근 시간 - poi:last_access:123, "2023-10-05" (poi 123번에 마지막 조회 시간)
     private static final String LAST_ACCESS_KEY = "poi:last_access:";
 
     // 핫스팟 판정 기준 원래 100개인데 10개로 줄임(test를 위해)
 //    private static final int HOTSPOT_THRESHOLD_PER_HOUR = 100;
     private static final int HOTSPOT_THRESHOLD_PER_HOUR = 10;
-    private static final Duration ACCESS_COUNT_TTL = Duration.ofHours(1);
+    // 평가가 멈춰도 핫스팟이 영구히 남지 않도록 평가 때마다 연장하는 만료 시간
     private static final Duration HOTSPOT_STATUS_TTL = Duration.ofHours(24);
+    private static final Duration EVALUATION_LEASE_TTL = Duration.ofSeconds(50);
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final DateTimeFormatter HOURLY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    // 4주 전 같은 요일/시간대까지 비교할 수 있도록 보관
+    private static final Duration HOURLY_ACCESS_TTL = Duration.ofDays(29);
+    private static final int SCAN_BATCH_SIZE = 500;
+    // 이 값 미만으로 감쇠한 접근률은 추적 대상에서 제외
+    private static final double MIN_TRACKED_RATE = 0.01;
+    // graceful shutdown 이후, Redis 연결(phase 0)이 닫히기 전에 마지막 flush
+    private static final int FLUSH_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
 
-    // 각 POI의 시간당 조회 횟수 추적
+    private volatile boolean running;
+
+    private HotspotDetector hotspotDetector;
+
+    // 노드 로컬 핫스팟 스냅샷 - isHotspot은 Redis 조회 없이 메모리에서 판단 (copy-on-write)
+    private volatile Set<Long> hotspotSnapshot = Set.of();
+
+    @PostConstruct
+    void initialize() {
+        hotspotDetector = new HotspotDetector(
+                hotspotProperties.getHalfLifeMinutes(),
+                hotspotProperties.getDemoteRatio()
+        );
+        listenerContainer.addMessageListener(this::onHotspotEvent, new ChannelTopic(HOTSPOT_EVENT_CHANNEL));
+        refreshHotspotSnapshot();
+    }
+
+    // 노드 로컬 접근 카운터 (Redis 반영 전 증가분) - POI 수만큼만 유지
+    private final Map<Long, LongAdder> pendingAccessCounts = new ConcurrentHashMap<>();
+    // 노드 로컬 마지막 접근 시간 (Redis 반영 전)
+    private final Map<Long, LocalDateTime> pendingLastAccess = new ConcurrentHashMap<>();
+
+    // 각 POI의 시간당 조회 횟수 추적 - 요청 경로에서는 로컬 카운터만 증가 (Redis 쓰기 없음)
     public void recordAccess(Long poiId) {
-        try {
-            String countKey = ACCESS_COUNT_KEY + poiId;
-            String lastAccessKey = LAST_ACCESS_KEY + poiId;
+        pendingAccessCounts.computeIfAbsent(poiId, id -> new LongAdder()).increment();
+        pendingLastAccess.put(poiId, LocalDateTime.now());
+    }
 
-            // redis의 value값에 +1하고 +1한 값을 count에 할당
-            Long count = redisTemplate.opsForValue().increment(countKey);
+    /**
+     * 로컬 카운터를 Redis 분 단위 버킷에 한 번의 파이프라인으로 반영
+     * - 핫스팟 판정은 evaluateHotspots에서 노드 전체 합산 버킷으로 수행
+     */
+    @Scheduled(fixedDelay = 5000) // 5초
+    public void flushAccessCounts() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        pendingAccessCounts.forEach((poiId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(poiId, delta);
+            }
+        });
 
-            // 첫 접근 시에만 TTL(1시간)으로 설정
-            if (count == 1) {
-                redisTemplate.expire(countKey, ACCESS_COUNT_TTL);
+        Map<Long, LocalDateTime> lastAccesses = new HashMap<>();
+        for (Long poiId : Set.copyOf(pendingLastAccess.keySet())) {
+            LocalDateTime lastAccess = pendingLastAccess.remove(poiId);
+            if (lastAccess != null) {
+                lastAccesses.put(poiId, lastAccess);
             }
+        }
 
-            // 해당 poi의 lastAccess 시간 갱신
-            redisTemplate.opsForValue().set(lastAccessKey, LocalDateTime.now().toString(), Duration.ofDays(7));
+        if (deltas.isEmpty() && lastAccesses.isEmpty()) {
+            return;
+        }
 
-            // 임계값 도달 시 자동으로 핫스팟 승격
-            if (count >= thresholdService.getHotspotThreshold()) {
-                promoteToHotspot(poiId);
-            }
+        LocalDateTime now = LocalDateTime.now();
+        String bucketKey = bucketKey(now);
+        String hourlyKey = hourlyKey(now);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    deltas.forEach((poiId, delta) ->
+                            ops.opsForHash().increment(bucketKey, poiId.toString(), delta));
+                    ops.expire(bucketKey, bucketTtl());
+                    deltas.forEach((poiId, delta) ->
+                            ops.opsForHash().increment(hourlyKey, poiId.toString(), delta));
+                    ops.expire(hourlyKey, HOURLY_ACCESS_TTL);
+                    lastAccesses.forEach((poiId, lastAccess) ->
+                            ops.opsForValue().set(LAST_ACCESS_KEY + poiId, lastAccess.toString(), Duration.ofDays(7)));
+                    return null;
+                }
+            });
 
-            log.debug("Recorded access for POI {}, count: {}", poiId, count);
+            log.debug("Flushed access counts for {} POIs to {}", deltas.size(), bucketKey);
         } catch (Exception e) {
-            log.error("Error recording access for POI {}", poiId, e);
+            // 반영 실패한 증가분은 다음 주기에 다시 반영
+            deltas.forEach((poiId, delta) ->
+                    pendingAccessCounts.computeIfAbsent(poiId, id -> new LongAdder()).add(delta));
+            lastAccesses.forEach(pendingLastAccess::putIfAbsent);
+            log.error("Error flushing access counts for {} POIs", deltas.size(), e);
         }
     }
 
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        flushAccessCounts();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return FLUSH_PHASE;
+    }
+
     /**
-     * POI가 핫스팟인지 확인
+     * POI가 핫스팟인지 확인 (노드 로컬 스냅샷 기준)
      */
     public boolean isHotspot(Long poiId) {
-        String hotspotKey = HOTSPOT_STATUS_KEY + poiId;
-        String value = (String) redisTemplate.opsForValue().get(hotspotKey);
-        return "true".equals(value);
+        return hotspotSnapshot.contains(poiId);
     }
 
-    @Scheduled(cron = "0 0 * * * *") // 매 시간 정각에 실행
-    public void reevaluateHotspots() {
-        log.info("Starting hotspot reevaluation process");
-
+    /**
+     * Redis 핫스팟 목록으로 로컬 스냅샷 갱신
+     * - 승격/강등 이벤트를 놓치더라도 최대 10초 안에 맞춰진다.
+     */
+    @Scheduled(fixedDelay = 10000) // 10초
+    public void refreshHotspotSnapshot() {
         try {
-            Map<Long, Long> currentCounts = new HashMap<>();
-            int demotedCount = 0;
-            int promotedCount = 0;
-            int threshold = thresholdService.getHotspotThreshold();
+            Set<Long> hotspots = Set.copyOf(getHotspotPoiIds());
+            synchronized (this) {
+                hotspotSnapshot = hotspots;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh hotspot snapshot, keeping {} cached hotspots: {}",
+                    hotspotSnapshot.size(), e.getMessage());
+        }
+    }
 
-            // 1. 현재 모든 접근 카운트 수집 및 백업
-            Set<String> countKeys = redisTemplate.keys(ACCESS_COUNT_KEY + "*");
-            if (!countKeys.isEmpty()) {
-                for (String countKey : countKeys) {
-                    Long poiId = extractPoiId(countKey);
-                    if (poiId == null) continue;
+    /**
+     * 다른 노드(또는 자신)의 승격/강등 이벤트를 로컬 스냅샷에 즉시 반영
+     */
+    private void onHotspotEvent(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
 
-                    Long count = (Long) redisTemplate.opsForValue().get(countKey);
-                    if (count != null) {
-                        currentCounts.put(poiId, count);
-                    }
-                }
+        String[] parts = body.toString().split(":", 2);
+        Long poiId = parts.length == 2 ? parsePoiId(parts[1]) : null;
+        if (poiId == null) {
+            return;
+        }
+
+        synchronized (this) {
+            Set<Long> updated = new HashSet<>(hotspotSnapshot);
+            if (PROMOTE_EVENT.equals(parts[0])) {
+                updated.add(poiId);
+            } else if (DEMOTE_EVENT.equals(parts[0])) {
+                updated.remove(poiId);
+            }
+            hotspotSnapshot = Set.copyOf(updated);
+        }
+    }
+
+    /**
+     * 현재 핫스팟 POI 목록 (Redis 기준, 만료 시각이 지나지 않은 멤버만)
+     */
+    public Set<Long> getHotspotPoiIds() {
+        Set<Object> members = redisTemplate.opsForZSet()
+                .rangeByScore(HOTSPOT_SET_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> poiIds = new HashSet<>();
+        for (Object member : members) {
+            Long poiId = parsePoiId(member);
+            if (poiId != null) {
+                poiIds.add(poiId);
             }
+        }
+        return poiIds;
+    }
+
+    /**
+     * 분 단위 버킷으로 접근률을 갱신하고 핫스팟을 재평가
+     * - 접근률은 반감기 기반 지수 감쇠로 갱신되어 정각마다 이력이 사라지지 않는다.
+     * - 승격/강등 임계값이 달라(hysteresis) 임계값 근처의 POI가 상태를 오가지 않는다.
+     */
+    @Scheduled(cron = "10 * * * * *") // 매 분 10초 (로컬 카운터 flush 이후)
+    public void evaluateHotspots() {
+        if (!tryAcquireEvaluationLease()) {
+            return;
+        }
 
-            Set<String> hotspotKeys = redisTemplate.keys(HOTSPOT_STATUS_KEY + "*");
-            if (!hotspotKeys.isEmpty()) {
-                for (String hotspotKey : hotspotKeys) {
-                    Long poiId = extractPoiId(hotspotKey);
-                    if (poiId == null) continue;
+        try {
+            LocalDateTime lastCompletedMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(1);
+            LocalDateTime fromMinute = resolveFirstUnprocessedMinute(lastCompletedMinute);
 
-                    Long count = currentCounts.get(poiId);
+            // 1. 처리하지 않은 분 버킷을 순서대로 반영 (HSCAN)
+            Map<Long, Double> rates = loadAccessRates();
+            for (LocalDateTime minute = fromMinute; !minute.isAfter(lastCompletedMinute); minute = minute.plusMinutes(1)) {
+                Map<Long, Long> minuteCounts = scanAccessCounts(bucketKey(minute));
 
-                    if (count == null || count < threshold) {
-                        redisTemplate.delete(hotspotKey);
-                        demotedCount++;
-                        log.info("POI {} demoted from hotspot (count: {}/{} threshold)",
-                                poiId, count != null ? count : 0, threshold);
-                    }
+                Set<Long> poiIds = new HashSet<>(rates.keySet());
+                poiIds.addAll(minuteCounts.keySet());
+                for (Long poiId : poiIds) {
+                    rates.put(poiId, hotspotDetector.nextRate(
+                            rates.getOrDefault(poiId, 0.0),
+                            minuteCounts.getOrDefault(poiId, 0L)));
                 }
             }
+            rates.values().removeIf(rate -> rate < MIN_TRACKED_RATE);
+            saveAccessRates(rates, lastCompletedMinute);
+
+            // 2. 접근률 기준 승격/강등
+            int threshold = thresholdService.getHotspotThreshold();
+            Set<Long> currentHotspots = getHotspotPoiIds();
+            Set<Long> candidates = new HashSet<>(currentHotspots);
+            candidates.addAll(rates.keySet());
 
-            for (Map.Entry<Long, Long> entry : currentCounts.entrySet()) {
-                Long poiId = entry.getKey();
-                Long count = entry.getValue();
+            Set<ZSetOperations.TypedTuple<Object>> hotspots = new HashSet<>();
+            List<String> promoted = new ArrayList<>();
+            List<String> demoted = new ArrayList<>();
+            long expiresAt = System.currentTimeMillis() + HOTSPOT_STATUS_TTL.toMillis();
 
-                if (count >= threshold && !isHotspot(poiId)) {
-                    String hotspotKey = HOTSPOT_STATUS_KEY + poiId;
-                    redisTemplate.opsForValue().set(hotspotKey, "true", HOTSPOT_STATUS_TTL);
-                    promotedCount++;
-                    log.info("POI {} promoted to hotspot (count: {}/{} threshold)",
-                            poiId, count, threshold);
+            for (Long poiId : candidates) {
+                boolean wasHot = currentHotspots.contains(poiId);
+                double rate = rates.getOrDefault(poiId, 0.0);
+
+                if (hotspotDetector.shouldBeHot(wasHot, rate, threshold)) {
+                    hotspots.add(ZSetOperations.TypedTuple.of(poiId.toString(), (double) expiresAt));
+                    if (!wasHot) {
+                        promoted.add(poiId.toString());
+                        log.info("POI {} promoted to hotspot (rate: {}/h, threshold: {})",
+                                poiId, String.format("%.1f", rate), threshold);
+                    }
+                } else if (wasHot) {
+                    demoted.add(poiId.toString());
+                    log.info("POI {} demoted from hotspot (rate: {}/h, threshold: {})",
+                            poiId, String.format("%.1f", rate), threshold);
                 }
             }
 
-            if (!countKeys.isEmpty()) {
-                redisTemplate.delete(countKeys);
-                log.info("Reset {} access counters for next hour", countKeys.size());
+            // 3. 핫스팟 목록 반영 (유지되는 핫스팟은 만료 시각 연장)
+            redisTemplate.opsForZSet().removeRangeByScore(HOTSPOT_SET_KEY, 0, System.currentTimeMillis());
+            if (!demoted.isEmpty()) {
+                redisTemplate.opsForZSet().remove(HOTSPOT_SET_KEY, demoted.toArray());
             }
+            if (!hotspots.isEmpty()) {
+                redisTemplate.opsForZSet().add(HOTSPOT_SET_KEY, hotspots);
+            }
+
+            // 4. 모든 노드의 로컬 스냅샷에 변경 전파
+            promoted.forEach(poiId -> redisTemplate.convertAndSend(HOTSPOT_EVENT_CHANNEL, PROMOTE_EVENT + ":" + poiId));
+            demoted.forEach(poiId -> redisTemplate.convertAndSend(HOTSPOT_EVENT_CHANNEL, DEMOTE_EVENT + ":" + poiId));
+
+            log.info("Hotspot evaluation completed - Promoted: {}, Demoted: {}, Total: {}, Tracked: {}, Threshold: {}",
+                    promoted.size(), demoted.size(), hotspots.size(), rates.size(), threshold);
+
+        } catch (Exception e) {
+            log.error("Error during hotspot evaluation", e);
+        }
+    }
 
-            // 5. 통계 로깅
-            Set<String> currentHotspots = redisTemplate.keys(HOTSPOT_STATUS_KEY + "*");
-            int totalHotspots = currentHotspots.size();
+    /**
+     * 아직 접근률에 반영하지 않은 첫 번째 분 (최대 버킷 보관 기간까지만 거슬러 올라감)
+     */
+    private LocalDateTime resolveFirstUnprocessedMinute(LocalDateTime lastCompletedMinute) {
+        LocalDateTime oldestAvailable = lastCompletedMinute.minusMinutes(hotspotProperties.getWindowMinutes() - 1L);
 
-            log.info("Hotspot reevaluation completed - Promoted: {}, Demoted: {}, Total: {}, Threshold: {}",
-                    promotedCount, demotedCount, totalHotspots, threshold);
+        Object processed = redisTemplate.opsForValue().get(ACCESS_RATE_PROCESSED_KEY);
+        if (processed == null) {
+            return oldestAvailable;
+        }
 
+        try {
+            LocalDateTime next = LocalDateTime.parse(processed.toString(), BUCKET_FORMATTER).plusMinutes(1);
+            return next.isBefore(oldestAvailable) ? oldestAvailable : next;
         } catch (Exception e) {
-            log.error("Error during hotspot reevaluation", e);
+            log.warn("Invalid processed minute marker: {}", processed);
+            return oldestAvailable;
+        }
+    }
+
+    private Map<Long, Double> loadAccessRates() {
+        Map<Long, Double> rates = new HashMap<>();
+        Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet().rangeWithScores(ACCESS_RATE_KEY, 0, -1);
+        if (tuples == null) {
+            return rates;
+        }
+
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            Long poiId = parsePoiId(tuple.getValue());
+            if (poiId != null && tuple.getScore() != null) {
+                rates.put(poiId, tuple.getScore());
+            }
+        }
+        return rates;
+    }
+
+    private void saveAccessRates(Map<Long, Double> rates, LocalDateTime processedMinute) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+        rates.forEach((poiId, rate) -> tuples.add(ZSetOperations.TypedTuple.of(poiId.toString(), rate)));
+
+        redisTemplate.delete(ACCESS_RATE_KEY);
+        if (!tuples.isEmpty()) {
+            redisTemplate.opsForZSet().add(ACCESS_RATE_KEY, tuples);
         }
+        redisTemplate.opsForValue().set(ACCESS_RATE_PROCESSED_KEY, processedMinute.format(BUCKET_FORMATTER));
     }
 
-    private Long extractPoiId(String key) {
+    private boolean tryAcquireEvaluationLease() {
         try {
-            String[] parts = key.split(":");
-            if (parts.length > 0) {
-                String idStr = parts[parts.length - 1];
-                return Long.parseLong(idStr);
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(EVALUATION_LEASE_KEY, UUID.randomUUID().toString(), EVALUATION_LEASE_TTL);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("Failed to acquire hotspot evaluation lease: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 특정 1시간 동안의 POI별 접근 횟수 (클러스터 전체)
+     *
+     * @param hour 조회할 시간대 (분 이하는 무시)
+     */
+    public Map<Long, Long> getHourlyAccessCounts(LocalDateTime hour) {
+        return scanAccessCounts(hourlyKey(hour));
+    }
+
+    /**
+     * 분 버킷의 POI별 접근 횟수를 커서 기반으로 순회
+     */
+    private Map<Long, Long> scanAccessCounts(String bucketKey) {
+        Map<Long, Long> counts = new HashMap<>();
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build();
+
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(bucketKey, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                Long poiId = parsePoiId(entry.getKey());
+                if (poiId != null && entry.getValue() instanceof Number count) {
+                    counts.put(poiId, count.longValue());
+                }
             }
+        }
+        return counts;
+    }
+
+    private Long parsePoiId(Object value) {
+        try {
+            return Long.parseLong(value.toString());
         } catch (Exception e) {
-            log.warn("Failed to extract POI ID from key: {}", key);
+            log.warn("Failed to parse POI ID: {}", value);
         }
         return null;
     }
 
     /**
-     * 현재 접근 횟수 조회
+     * 현재 접근 횟수 조회 (최근 windowMinutes분 버킷 합계 + 아직 반영되지 않은 로컬 카운트)
      */
     public int getCurrentAccessCount(Long poiId) {
-        String countKey = ACCESS_COUNT_KEY + poiId;
-        Integer count = (Integer) redisTemplate.opsForValue().get(countKey);
-        return count != null ? count : 0;
+        LocalDateTime currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        List<String> bucketKeys = new ArrayList<>();
+        for (int i = 0; i < hotspotProperties.getWindowMinutes(); i++) {
+            bucketKeys.add(bucketKey(currentMinute.minusMinutes(i)));
+        }
+
+        List<Object> counts = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                bucketKeys.forEach(bucketKey -> ops.opsForHash().get(bucketKey, poiId.toString()));
+                return null;
+            }
+        });
+
+        long total = 0;
+        for (Object count : counts) {
+            if (count instanceof Number number) {
+                total += number.longValue();
+            }
+        }
+
+        LongAdder pending = pendingAccessCounts.get(poiId);
+        return (int) (total + (pending != null ? pending.sum() : 0));
+    }
+
+    /**
+     * 지수 감쇠 접근률 조회 (시간당 환산)
+     */
+    public double getAccessRate(Long poiId) {
+        Double rate = redisTemplate.opsForZSet().score(ACCESS_RATE_KEY, poiId.toString());
+        return rate != null ? rate : 0.0;
     }
 
     /**
      * 마지막 접근 시간 조회
      */
     public LocalDateTime getLastAccessTime(Long poiId) {
+        LocalDateTime pending = pendingLastAccess.get(poiId);
+        if (pending != null) {
+            return pending;
+        }
+
         String lastAccessKey = LAST_ACCESS_KEY + poiId;
         String timeStr = (String) redisTemplate.opsForValue().get(lastAccessKey);
         return timeStr != null ? LocalDateTime.parse(timeStr) : null;
     }
 
-    private void promoteToHotspot(Long poiId) {
-        String hotspotKey = HOTSPOT_STATUS_KEY + poiId;
-        redisTemplate.opsForValue().set(hotspotKey, "true", HOTSPOT_STATUS_TTL);
-        log.info("POI {} promoted to hotspot", poiId);
+    private Duration bucketTtl() {
+        // 재평가가 잠시 밀려도 버킷을 읽을 수 있도록 여유를 둠
+        return Duration.ofMinutes(hotspotProperties.getWindowMinutes() + 5L);
+    }
+
+    private String hourlyKey(LocalDateTime time) {
+        return HOURLY_ACCESS_KEY + time.format(HOURLY_FORMATTER);
+    }
+
+    private String bucketKey(LocalDateTime time) {
+        return ACCESS_COUNT_BUCKET_KEY + time.format(BUCKET_FORMATTER);
     }
 }
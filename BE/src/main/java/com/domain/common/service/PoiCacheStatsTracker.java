@@ -0,0 +1,145 @@
+package com.domain.common.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * POI별 캐시 히트/미스 통계 (고정 용량, lock-free)
+ * - poiId를 long 그대로 키로 사용하는 open addressing 테이블로, 요청마다 문자열/객체를 만들지 않는다.
+ * - 탐색 구간이 가득 차면 그 구간에서 가장 적게 조회된 POI를 밀어내므로 자주 조회되는 POI가 남는다 (Space-Saving 근사).
+ */
+public class PoiCacheStatsTracker {
+
+    private static final long EMPTY = 0L;
+    private static final int MAX_PROBE = 8;
+
+    private final int mask;
+    private final AtomicLongArray keys;
+    private final AtomicLongArray hits;
+    private final AtomicLongArray misses;
+    private final AtomicLongArray staleServed;
+
+    public record PoiStats(long poiId, long hits, long misses, long staleServed) {
+
+        public long total() {
+            return hits + misses;
+        }
+    }
+
+    /**
+     * @param capacity 추적할 최대 POI 수 (2의 거듭제곱으로 올림)
+     */
+    public PoiCacheStatsTracker(int capacity) {
+        int size = Integer.highestOneBit(Math.max(MAX_PROBE, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.keys = new AtomicLongArray(size);
+        this.hits = new AtomicLongArray(size);
+        this.misses = new AtomicLongArray(size);
+        this.staleServed = new AtomicLongArray(size);
+    }
+
+    public void recordHit(long poiId, boolean isStale) {
+        int slot = claimSlot(poiId);
+        if (slot < 0) {
+            return;
+        }
+        hits.incrementAndGet(slot);
+        if (isStale) {
+            staleServed.incrementAndGet(slot);
+        }
+    }
+
+    public void recordMiss(long poiId) {
+        int slot = claimSlot(poiId);
+        if (slot >= 0) {
+            misses.incrementAndGet(slot);
+        }
+    }
+
+    /**
+     * 추적 중인 POI의 통계 (추적되지 않으면 0)
+     */
+    public PoiStats get(long poiId) {
+        int slot = findSlot(poiId);
+        if (slot < 0) {
+            return new PoiStats(poiId, 0, 0, 0);
+        }
+        return new PoiStats(poiId, hits.get(slot), misses.get(slot), staleServed.get(slot));
+    }
+
+    /**
+     * 조회 수(히트 + 미스) 상위 POI
+     */
+    public List<PoiStats> top(int limit) {
+        List<PoiStats> stats = new ArrayList<>();
+        for (int slot = 0; slot <= mask; slot++) {
+            long poiId = keys.get(slot);
+            if (poiId != EMPTY) {
+                stats.add(new PoiStats(poiId, hits.get(slot), misses.get(slot), staleServed.get(slot)));
+            }
+        }
+        stats.sort(Comparator.comparingLong(PoiStats::total).reversed());
+        return stats.size() > limit ? List.copyOf(stats.subList(0, limit)) : stats;
+    }
+
+    private int findSlot(long poiId) {
+        int start = spread(poiId);
+        for (int i = 0; i < MAX_PROBE; i++) {
+            int slot = (start + i) & mask;
+            long key = keys.get(slot);
+            if (key == poiId) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private int claimSlot(long poiId) {
+        int start = spread(poiId);
+        int coldest = -1;
+        long coldestTotal = Long.MAX_VALUE;
+
+        for (int i = 0; i < MAX_PROBE; i++) {
+            int slot = (start + i) & mask;
+            long key = keys.get(slot);
+
+            if (key == poiId) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                if (keys.compareAndSet(slot, EMPTY, poiId) || keys.get(slot) == poiId) {
+                    return slot;
+                }
+                continue;
+            }
+
+            long total = hits.get(slot) + misses.get(slot);
+            if (total < coldestTotal) {
+                coldestTotal = total;
+                coldest = slot;
+            }
+        }
+
+        // 탐색 구간이 가득 참 - 가장 적게 조회된 POI를 밀어냄 (경합에서 지면 이번 기록은 생략)
+        if (coldest >= 0) {
+            long evicted = keys.get(coldest);
+            if (evicted != EMPTY && keys.compareAndSet(coldest, evicted, poiId)) {
+                hits.set(coldest, 0);
+                misses.set(coldest, 0);
+                staleServed.set(coldest, 0);
+                return coldest;
+            }
+        }
+        return -1;
+    }
+
+    private int spread(long poiId) {
+        long h = poiId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
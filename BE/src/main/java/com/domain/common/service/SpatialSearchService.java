@@ -1,5 +1,6 @@
 package com.domain.common.service;
 
+import com.domain.common.dto.redis.StoreCacheEntry;
 import com.domain.review.dto.response.StoreDistanceResult;
 import com.domain.common.entity.Poi;
 import com.domain.common.repository.PoiRepository;
@@ -7,7 +8,12 @@ import com.domain.store.dto.response.StoreInfo;
 import com.domain.store.entity.Store;
 import com.domain.store.repository.StoreRepository;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -18,9 +24,11 @@ import com.global.exception.ApiException;
 import com.global.utils.geo.H3SearchStrategy;
 import com.global.utils.geo.H3Utils;
 import com.global.utils.geo.HaversineCalculator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -32,9 +40,46 @@ public class SpatialSearchService {
     private final PoiRepository poiRepository;
     private final StoreRepository storeRepository;
     private final HaversineCalculator haversineCalculator;
-    private final CacheMetadataService cacheMetadataService;
     private final MultiLevelCacheService multiLevelCache; // 변경
     private final PoiAccessTrackingService poiAccessTrackingService;
+    private final CacheLeaseService cacheLeaseService;
+    private final CacheRefreshScheduler cacheRefreshScheduler;
+    private final MeterRegistry meterRegistry;
+
+    // 자동 튜닝 입력 지표 - 조회 지연(p95)과 재계산(DB 조회) 횟수
+    public static final String LOOKUP_TIMER = "cache.poi.lookup";
+    public static final String RECOMPUTE_TIMER = "cache.poi.recompute";
+
+    // XFetch 조기 갱신 계수 (1.0 = 논문 기본값, 클수록 더 일찍 갱신)
+    private static final double XFETCH_BETA = 1.0;
+
+    // 다른 노드가 재계산 중일 때 결과를 기다리는 최대 시간과 확인 주기
+    private static final Duration PEER_REFRESH_WAIT = Duration.ofSeconds(1);
+    private static final long PEER_REFRESH_POLL_MILLIS = 50;
+
+    // 노드 내 single-flight - 같은 (poiId, distance) 재계산은 하나의 Future를 공유
+    private final Map<String, CompletableFuture<List<StoreDistanceResult>>> inFlightRefreshes =
+            new ConcurrentHashMap<>();
+
+    private Timer lookupTimer;
+    private Timer recomputeTimer;
+
+    /**
+     * 검색 거리에 맞춘 H3 해상도와 검색 셀 목록
+     */
+    public record SearchCells(int resolution, List<Long> cells) {
+    }
+
+    @PostConstruct
+    void registerMeters() {
+        lookupTimer = Timer.builder(LOOKUP_TIMER)
+                .description("POI 주변 Store 조회 지연 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        recomputeTimer = Timer.builder(RECOMPUTE_TIMER)
+                .description("POI 주변 Store 재계산(DB 조회) 시간")
+                .register(meterRegistry);
+    }
 
     // ===== Public APIs =====
 
@@ -84,38 +129,70 @@ public class SpatialSearchService {
      * @return 거리 내 Store 목록 (거리순 정렬)
      */
     public List<StoreDistanceResult> getNearbyStoresWithDistance(Long poiId, int requestedDistance) {
+        return lookupTimer.record(() -> lookupNearbyStores(poiId, requestedDistance));
+    }
+
+    private List<StoreDistanceResult> lookupNearbyStores(Long poiId, int requestedDistance) {
         log.info("Getting stores near POI {} within {}m", poiId, requestedDistance);
 
         validDistance(requestedDistance);
         poiAccessTrackingService.recordAccess(poiId);
 
-        List<StoreDistanceResult> cachedData = multiLevelCache.get(poiId, requestedDistance);
-
-        if (Objects.nonNull(cachedData) && !cachedData.isEmpty()) {
-            boolean isHotspot = poiAccessTrackingService.isHotspot(poiId);
-            boolean isStale = cacheMetadataService.isStale(poiId, requestedDistance);
-            log.info("XX POI is id={}, isHotSpot={}, isStale={}", poiId, isHotspot, isStale);
-
-            if (isHotspot && isStale) {
-                if (cacheMetadataService.isTooStale(poiId, requestedDistance)) {
-                    log.info("Hotspot POI {} cache too stale, refreshing immediately", poiId);
-                    return refreshCache(poiId, requestedDistance);
-                } else {
-                    triggerBackgroundRefresh(poiId, requestedDistance);
-                    log.info("Returning stale cache for hotspot POI {}, background refresh triggered", poiId);
-                    return cachedData;
+        StoreCacheEntry cached = multiLevelCache.get(poiId, requestedDistance);
+
+        if (Objects.nonNull(cached)) {  // 빈 목록(negative entry)도 캐시 히트로 처리
+            long now = System.currentTimeMillis();
+
+            if (!cached.isExpired(now)) {
+                // XFetch: 만료가 가까워질수록 확률적으로 미리 재계산 (자주 읽히는 키일수록 먼저 갱신됨)
+                if (cached.shouldRefreshEarly(now, XFETCH_BETA)) {
+                    log.info("Early refresh triggered for POI {} at {}m ({}ms before expiry)",
+                            poiId, requestedDistance, cached.expiresAt() - now);
+                    triggerBackgroundRefresh(poiId, requestedDistance, cached.stores(),
+                            poiAccessTrackingService.isHotspot(poiId));
                 }
-            } else if (!isStale) {
                 log.debug("Cache hit (fresh) for POI {} at {}m", poiId, requestedDistance);
-                return cachedData;
-            } else {
-                // 🔵 여기가 문제! 일반 POI + stale인 경우
-                log.info("Normal POI {} has stale cache, will refresh and lose stale state!", poiId);
-                return refreshCache(poiId, requestedDistance);
+                return cached.stores();
             }
+
+            if (poiAccessTrackingService.isHotspot(poiId)) {
+                triggerBackgroundRefresh(poiId, requestedDistance, cached.stores(), true);
+                log.info("Returning stale cache for hotspot POI {}, background refresh triggered", poiId);
+                return cached.stores();
+            }
+
+            log.info("Normal POI {} has expired cache, refreshing", poiId);
+            return refreshCache(poiId, requestedDistance, cached.stores());
         }
 
-        return refreshCache(poiId, requestedDistance);
+        return refreshCache(poiId, requestedDistance, null);
+    }
+
+    /**
+     * 캐시 예열이 필요한지 확인 (L2에 fresh 캐시가 없으면 true)
+     * - 접근 기록과 히트/미스 메트릭을 남기지 않는다.
+     */
+    public boolean needsWarming(Long poiId, int distance) {
+        StoreCacheEntry cached = multiLevelCache.peekL2(poiId, distance);
+        return Objects.isNull(cached) || cached.isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 중심점 주변을 검색 거리만큼 덮는 H3 셀 (리뷰 피드 영역 조회용)
+     */
+    public SearchCells getSearchCells(double lat, double lon, int searchDistance) {
+        H3SearchStrategy.Strategy strategy = H3SearchStrategy.determineStrategy(searchDistance);
+        long centerH3 = h3Service.encode(lat, lon, strategy.resolution());
+        return new SearchCells(strategy.resolution(), h3Service.getKRing(centerH3, strategy.kRing()));
+    }
+
+    /**
+     * 캐시 예열 - 사용자 요청이 아니므로 접근 기록 없이 재계산만 수행
+     */
+    public void warmCache(Long poiId, int distance) {
+        validDistance(distance);
+        StoreCacheEntry cached = multiLevelCache.peekL2(poiId, distance);
+        refreshCache(poiId, distance, Objects.nonNull(cached) ? cached.stores() : null);
     }
 
     public List<StoreInfo> getNearbyStores(Long poiId, int requestedDistance) {
@@ -312,44 +389,141 @@ public class SpatialSearchService {
         );
 
         if (results.isEmpty()) {
-            log.debug("No stores found within {}m of POI {}, not caching", distanceBand, poi.getId());
-            return results;  // 빈 리스트 반환, 캐싱하지 않음
+            log.debug("No stores found within {}m of POI {}, caching as negative entry", distanceBand, poi.getId());
         }
         return results;
     }
 
-    private List<StoreDistanceResult> refreshCache(Long poiId, int distance) {
-        log.info("RefreshCache called for POI {} at {}m - this will reset metadata to fresh!",
-                poiId, distance);
+    /**
+     * 캐시 재계산 (single-flight)
+     * - 같은 노드에서 동시에 들어온 미스는 하나의 재계산 결과를 함께 기다린다.
+     * - 다른 노드가 리스를 보유 중이면 stale 데이터를 제공하거나 잠시 대기한다.
+     *
+     * @param staleData 리스 획득 실패 시 대신 제공할 기존 캐시 데이터 (없으면 null)
+     */
+    private List<StoreDistanceResult> refreshCache(Long poiId, int distance, List<StoreDistanceResult> staleData) {
+        String flightKey = generateFlightKey(poiId, distance);
+        CompletableFuture<List<StoreDistanceResult>> flight = new CompletableFuture<>();
+        CompletableFuture<List<StoreDistanceResult>> inFlight = inFlightRefreshes.putIfAbsent(flightKey, flight);
+
+        if (inFlight != null) {
+            if (Objects.nonNull(staleData)) {
+                log.debug("Refresh already in flight for POI {} at {}m, serving stale cache", poiId, distance);
+                return staleData;
+            }
+            log.debug("Joining in-flight refresh for POI {} at {}m", poiId, distance);
+            return awaitInFlight(inFlight);
+        }
+
+        try {
+            List<StoreDistanceResult> results = refreshWithLease(poiId, distance, staleData);
+            flight.complete(results);
+            return results;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRefreshes.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 노드 간 재계산 중복 방지 - 리스를 획득한 노드만 DB를 조회
+     */
+    private List<StoreDistanceResult> refreshWithLease(Long poiId, int distance,
+                                                       List<StoreDistanceResult> staleData) {
+        String leaseToken = cacheLeaseService.tryAcquire(poiId, distance);
+
+        if (leaseToken == null) {
+            if (Objects.nonNull(staleData)) {
+                log.info("POI {} at {}m is being refreshed by another node, serving stale cache", poiId, distance);
+                return staleData;
+            }
+
+            StoreCacheEntry peerResult = awaitPeerRefresh(poiId, distance);
+            if (Objects.nonNull(peerResult)) {
+                log.info("Using result refreshed by another node for POI {} at {}m", poiId, distance);
+                return peerResult.stores();
+            }
+
+            log.info("Peer refresh for POI {} at {}m not visible in time, refreshing locally", poiId, distance);
+        }
+
+        try {
+            return loadAndCache(poiId, distance);
+        } finally {
+            cacheLeaseService.release(poiId, distance, leaseToken);
+        }
+    }
+
+    private List<StoreDistanceResult> loadAndCache(Long poiId, int distance) {
+        log.info("RefreshCache called for POI {} at {}m", poiId, distance);
+        long startedAt = System.nanoTime();
 
         Poi poi = poiRepository.findById(poiId)
                 .orElseThrow(() -> new ApiException(ErrorCode.POI_NOT_FOUND));
 
         List<StoreDistanceResult> results = fetchAndCacheStores(poi, distance);
 
-        multiLevelCache.put(poiId, distance, results);
-
-        cacheMetadataService.saveMetadata(poiId, distance,
-                CacheMetadataService.CacheMetadata.fresh());
+        long computeNanos = System.nanoTime() - startedAt;
+        recomputeTimer.record(computeNanos, TimeUnit.NANOSECONDS);
+        long computeMillis = TimeUnit.NANOSECONDS.toMillis(computeNanos);
+        multiLevelCache.put(poiId, distance, results, computeMillis);
 
         return results;
     }
 
+    /**
+     * 다른 노드의 재계산 결과가 L2에 반영될 때까지 짧게 대기
+     */
+    private StoreCacheEntry awaitPeerRefresh(Long poiId, int distance) {
+        long deadline = System.nanoTime() + PEER_REFRESH_WAIT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(PEER_REFRESH_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            StoreCacheEntry peerResult = multiLevelCache.peekL2(poiId, distance);
+            if (Objects.nonNull(peerResult) && !peerResult.isExpired(System.currentTimeMillis())) {
+                return peerResult;
+            }
+        }
+
+        return null;
+    }
+
+    private List<StoreDistanceResult> awaitInFlight(CompletableFuture<List<StoreDistanceResult>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String generateFlightKey(Long poiId, int distance) {
+        return poiId + ":" + distance;
+    }
+
     private void validDistance(int distance) {
         if (!SearchDistance.isValid(distance)) {
             throw new ApiException(ErrorCode.VALIDATION_ERROR);
         }
     }
 
-    @Async
-    protected void triggerBackgroundRefresh(Long poiId, int distance) {
-        try {
-            log.info("Starting background refresh for POI {} at {}m", poiId, distance);
-            refreshCache(poiId, distance);
-            log.info("Background refresh completed for POI {} at {}m", poiId, distance);
-        } catch (Exception e) {
-            log.error("Background refresh failed for POI {} at {}m: {}",
-                    poiId, distance, e.getMessage());
-        }
+    /**
+     * 백그라운드 재계산 등록 - 요청 스레드는 기다리지 않고 stale 데이터를 바로 반환한다.
+     * 재계산 중 다른 노드가 리스를 보유하고 있으면 staleData가 그대로 유지된다.
+     */
+    private void triggerBackgroundRefresh(Long poiId, int distance, List<StoreDistanceResult> staleData,
+                                          boolean isHotspot) {
+        cacheRefreshScheduler.submit(poiId, distance, isHotspot,
+                () -> refreshCache(poiId, distance, staleData));
     }
 }
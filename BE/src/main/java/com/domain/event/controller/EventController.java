@@ -15,8 +15,6 @@ import com.domain.event.dto.response.ActiveStoreEventResponse;
 import com.domain.event.dto.response.EventAssetRequestResponse;
 import com.domain.event.dto.response.EventFinalizeResponse;
 import com.domain.event.dto.response.MyEventResponse;
-import com.domain.event.entity.Event;
-import com.domain.event.mapper.EventMapper;
 import com.domain.event.service.EventService;
 import com.global.constants.AssetType;
 import com.global.constants.SuccessCode;
@@ -50,7 +48,6 @@ import org.springframework.web.bind.annotation.RestController;
 public class EventController {
 
     private final EventService eventService;
-    private final EventMapper eventMapper;
 
     @PostMapping(value = "/assets/request", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<BaseResponse> requestEventAsset(
@@ -148,8 +145,12 @@ public class EventController {
     }
 
     @GetMapping
-    public ResponseEntity<BaseResponse> getEvents(@RequestParam("storeId") final Long storeId) {
-        List<Event> events = eventService.getEvents(storeId);
-        return ApiResponseFactory.success(EVENT_LIST_RETRIEVED, eventMapper.toResponse(events));
+    public ResponseEntity<BaseResponse> getEvents(
+            @RequestParam("storeId") final Long storeId,
+            @RequestParam(required = false) final Long lastEventId,
+            @RequestParam(defaultValue = "20") final int pageSize
+    ) {
+        return ApiResponseFactory.success(EVENT_LIST_RETRIEVED,
+                eventService.getEvents(storeId, lastEventId, pageSize));
     }
 }
@@ -1,12 +1,19 @@
 package com.domain.event.dto.response;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public record EventGetResponse(
+        Long eventId,
         String title,
         String description,
         LocalDateTime startDate,
         LocalDateTime endDate,
         String imageUrl
 ) {
+    // JPQL 생성자 프로젝션용 (이벤트 기간은 날짜 단위로 저장됨)
+    public EventGetResponse(Long eventId, String title, String description, LocalDate startDate,
+                            LocalDate endDate, String imageUrl) {
+        this(eventId, title, description, startDate.atStartOfDay(), endDate.atStartOfDay(), imageUrl);
+    }
 }
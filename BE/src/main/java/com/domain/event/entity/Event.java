@@ -11,9 +11,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
@@ -24,6 +26,11 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(
+        name = "event",
+        // 가게 이벤트 목록 - 가게 + SUCCESS + id 키셋
+        indexes = @Index(name = "idx_event_store_status_id", columnList = "store_id, status, id")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Event extends BaseEntity {
 
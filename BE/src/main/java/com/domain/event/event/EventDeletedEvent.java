@@ -0,0 +1,24 @@
+package com.domain.event.event;
+
+import com.domain.event.entity.Event;
+import com.global.constants.Status;
+import java.time.LocalDateTime;
+
+/**
+ * 가게 이벤트가 삭제됨 (소프트 삭제)
+ *
+ * @param published 삭제 전 SUCCESS 상태였는지 (이벤트 수 통계 차감 여부)
+ */
+public record EventDeletedEvent(
+        Long eventId,
+        Long storeId,
+        boolean published,
+        LocalDateTime deletedAt
+) {
+    public static EventDeletedEvent of(Event event) {
+        return new EventDeletedEvent(event.getId(),
+                event.getStore() != null ? event.getStore().getId() : null,
+                event.getStatus() == Status.SUCCESS,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,19 @@
+package com.domain.event.event;
+
+import com.domain.event.entity.Event;
+import java.time.LocalDateTime;
+
+/**
+ * 가게 이벤트가 최종 등록(SUCCESS)됨
+ */
+public record EventFinalizedEvent(
+        Long eventId,
+        Long storeId,
+        LocalDateTime finalizedAt
+) {
+    public static EventFinalizedEvent of(Event event) {
+        return new EventFinalizedEvent(event.getId(),
+                event.getStore() != null ? event.getStore().getId() : null,
+                LocalDateTime.now());
+    }
+}
@@ -1,5 +1,6 @@
 package com.domain.event.repository;
 
+import com.domain.event.dto.response.EventGetResponse;
 import com.domain.event.entity.Event;
 import com.global.constants.Status;
 import java.time.LocalDate;
@@ -44,5 +45,20 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     Long countByStoreIdAndStatus(Long storerId, Status status);
 
-    List<Event> findByStoreIdAndStatus(Long StoreId, Status status);
+    Long countByStoreIdAndStatusAndDeletedFalse(Long storeId, Status status);
+
+    // 가게 이벤트 목록 (id 키셋 커서, 에셋 경로까지 프로젝션)
+    @Query("SELECT new com.domain.event.dto.response.EventGetResponse(" +
+            "e.id, e.title, e.description, e.startDate, e.endDate, ea.path) " +
+            "FROM Event e " +
+            "LEFT JOIN e.eventAsset ea " +
+            "WHERE e.store.id = :storeId " +
+            "AND e.status = :status " +
+            "AND e.deleted = false " +
+            "AND (:lastEventId IS NULL OR e.id < :lastEventId) " +
+            "ORDER BY e.id DESC")
+    List<EventGetResponse> findStorePage(@Param("storeId") Long storeId,
+                                         @Param("status") Status status,
+                                         @Param("lastEventId") Long lastEventId,
+                                         Pageable pageable);
 }
@@ -5,10 +5,11 @@ import com.domain.event.dto.request.EventFinalizeRequest;
 import com.domain.event.dto.response.ActiveStoreEventResponse;
 import com.domain.event.dto.response.EventAssetRequestResponse;
 import com.domain.event.dto.response.EventFinalizeResponse;
+import com.domain.event.dto.response.EventGetResponse;
 import com.domain.event.dto.response.MyEventResponse;
-import com.domain.event.entity.Event;
 import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
+import com.global.dto.response.CursorPageResponse;
 import java.util.List;
 import org.springframework.core.io.Resource;
 
@@ -30,5 +31,5 @@ public interface EventService {
 
     void deleteEvent(Long eventId, String makerEmail);
 
-    List<Event> getEvents(Long storeId);
+    CursorPageResponse<EventGetResponse> getEvents(Long storeId, Long lastEventId, int pageSize);
 }
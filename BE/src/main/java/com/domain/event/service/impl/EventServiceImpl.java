@@ -6,9 +6,12 @@ import com.domain.event.dto.request.EventFinalizeRequest;
 import com.domain.event.dto.response.ActiveStoreEventResponse;
 import com.domain.event.dto.response.EventAssetRequestResponse;
 import com.domain.event.dto.response.EventFinalizeResponse;
+import com.domain.event.dto.response.EventGetResponse;
 import com.domain.event.dto.response.MyEventResponse;
 import com.domain.event.entity.Event;
 import com.domain.event.entity.EventAsset;
+import com.domain.event.event.EventDeletedEvent;
+import com.domain.event.event.EventFinalizedEvent;
 import com.domain.event.infrastructure.redis.EventAssetRedisPublisher;
 import com.domain.event.repository.EventAssetRepository;
 import com.domain.event.repository.EventRepository;
@@ -24,6 +27,7 @@ import com.global.constants.PagingConstants;
 import com.global.constants.Status;
 import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
+import com.global.dto.response.CursorPageResponse;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
 import com.global.redis.constants.RedisStreamKey;
@@ -37,6 +41,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -56,6 +61,7 @@ public class EventServiceImpl implements EventService {
     private final FileStorageService fileStorageService;
     private final EventAssetRedisPublisher eventAssetRedisPublisher;
     private final MakerRepository makerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -184,6 +190,7 @@ public class EventServiceImpl implements EventService {
         event.updateDescription(request.description());
         event.updateStatus(Status.SUCCESS);
         asset.registerEvent(event);
+        eventPublisher.publishEvent(EventFinalizedEvent.of(event));
 
         return EventFinalizeResponse.from(event);
     }
@@ -290,6 +297,7 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Transactional
     public void deleteEvent(Long eventId, String makerEmail) {
         User maker = makerRepository.findByEmailAndDeletedFalse(makerEmail)
                 .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED));
@@ -302,11 +310,16 @@ public class EventServiceImpl implements EventService {
         // 소프트 삭제
         event.delete();
         eventRepository.save(event);
+        eventPublisher.publishEvent(EventDeletedEvent.of(event));
     }
 
     @Override
-    public List<Event> getEvents(final Long storeId) {
-        return eventRepository.findByStoreIdAndStatus(storeId, Status.SUCCESS);
+    @Transactional(readOnly = true)
+    public CursorPageResponse<EventGetResponse> getEvents(final Long storeId, final Long lastEventId,
+                                                          final int pageSize) {
+        List<EventGetResponse> rows = eventRepository.findStorePage(storeId, Status.SUCCESS, lastEventId,
+                CursorPageResponse.request(pageSize));
+        return CursorPageResponse.of(rows, pageSize, EventGetResponse::eventId);
     }
 
     private Event createPendingEvent(final String title, final Store store, final LocalDate startDate,
@@ -2,7 +2,6 @@ package com.domain.menu.controller;
 
 import com.domain.menu.dto.request.*;
 import com.domain.menu.dto.response.*;
-import com.domain.menu.mapper.MenuPosterMapper;
 import com.domain.menu.service.MenuPosterService;
 import com.global.constants.AssetType;
 import com.global.constants.SuccessCode;
@@ -19,6 +18,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Slf4j
 @RestController
@@ -27,7 +27,6 @@ import java.util.List;
 public class MenuPosterController {
 
     private final MenuPosterService menuPosterService;
-    private final MenuPosterMapper menuPosterMapper;
 
     @PostMapping(value = "/assets/request", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<BaseResponse> requestMenuPosterAsset(
@@ -112,14 +111,22 @@ public class MenuPosterController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<BaseResponse> getMyMenuPosters(@AuthenticationPrincipal final String email) {
+    public ResponseEntity<BaseResponse> getMyMenuPosters(
+            @RequestParam(required = false) final Long lastPosterId,
+            @RequestParam(defaultValue = "20") final int pageSize,
+            @AuthenticationPrincipal final String email
+    ) {
         return ApiResponseFactory.success(SuccessCode.POSTER_GET,
-                menuPosterMapper.toResponse(menuPosterService.getMyMenuPosters(email)));
+                menuPosterService.getMyMenuPosters(email, lastPosterId, pageSize));
     }
 
     @GetMapping("/received")
-    public ResponseEntity<BaseResponse> getRevceivedMenuPosters(@AuthenticationPrincipal final String email) {
+    public ResponseEntity<BaseResponse> getRevceivedMenuPosters(
+            @RequestParam(required = false) final Long lastPosterId,
+            @RequestParam(defaultValue = "20") final int pageSize,
+            @AuthenticationPrincipal final String email
+    ) {
         return ApiResponseFactory.success(SuccessCode.POSTER_GET,
-                menuPosterMapper.toResponse(menuPosterService.getReceivedMenuPosters(email)));
+                menuPosterService.getReceivedMenuPosters(email, lastPosterId, pageSize));
     }
 }
@@ -12,10 +12,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +28,14 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@Table(
+        name = "menu_poster",
+        // 내가 만든 / 가게가 받은 메뉴 포스터 목록 - 작성자(가게) + SUCCESS + id 키셋
+        indexes = {
+                @Index(name = "idx_menu_poster_user_status_id", columnList = "user_id, status, id"),
+                @Index(name = "idx_menu_poster_store_status_id", columnList = "store_id, status, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MenuPoster extends BaseEntity {
 
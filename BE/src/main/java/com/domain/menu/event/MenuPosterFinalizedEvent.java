@@ -0,0 +1,23 @@
+package com.domain.menu.event;
+
+import com.domain.menu.entity.MenuPoster;
+import java.time.LocalDateTime;
+
+/**
+ * 메뉴 포스터가 최종 등록(SUCCESS)됨
+ */
+public record MenuPosterFinalizedEvent(
+        Long menuPosterId,
+        Long userId,
+        Long storeId,
+        LocalDateTime finalizedAt
+) {
+    public static MenuPosterFinalizedEvent of(MenuPoster menuPoster) {
+        return new MenuPosterFinalizedEvent(
+                menuPoster.getId(),
+                menuPoster.getUser() != null ? menuPoster.getUser().getId() : null,
+                menuPoster.getStore() != null ? menuPoster.getStore().getId() : null,
+                LocalDateTime.now()
+        );
+    }
+}
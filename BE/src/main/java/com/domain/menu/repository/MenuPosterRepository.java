@@ -1,11 +1,15 @@
 package com.domain.menu.repository;
 
+import com.domain.menu.dto.response.MenuPosterGetResponse;
 import com.domain.menu.entity.MenuPoster;
 import com.global.constants.Status;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MenuPosterRepository extends JpaRepository<MenuPoster, Long> {
 
@@ -13,9 +17,35 @@ public interface MenuPosterRepository extends JpaRepository<MenuPoster, Long> {
 
     Long countByStoreIdAndStatus(Long storerId, Status status);
 
-    List<MenuPoster> findByUserIdAndStatus(Long userId, Status status);
-
-    List<MenuPoster> findByStoreIdAndStatus(Long storeId, Status status);
+    // 내가 만든 메뉴 포스터 목록 (id 키셋 커서, 에셋 경로까지 프로젝션)
+    @Query("""
+            SELECT new com.domain.menu.dto.response.MenuPosterGetResponse(m.id, a.path)
+            FROM MenuPoster m
+            LEFT JOIN m.menuPosterAsset a
+            WHERE m.user.id = :userId
+              AND m.status = :status
+              AND (:lastPosterId IS NULL OR m.id < :lastPosterId)
+            ORDER BY m.id DESC
+            """)
+    List<MenuPosterGetResponse> findUserPage(@Param("userId") Long userId,
+                                             @Param("status") Status status,
+                                             @Param("lastPosterId") Long lastPosterId,
+                                             Pageable pageable);
+
+    // 가게가 받은 메뉴 포스터 목록 (id 키셋 커서, 에셋 경로까지 프로젝션)
+    @Query("""
+            SELECT new com.domain.menu.dto.response.MenuPosterGetResponse(m.id, a.path)
+            FROM MenuPoster m
+            LEFT JOIN m.menuPosterAsset a
+            WHERE m.store.id = :storeId
+              AND m.status = :status
+              AND (:lastPosterId IS NULL OR m.id < :lastPosterId)
+            ORDER BY m.id DESC
+            """)
+    List<MenuPosterGetResponse> findStorePage(@Param("storeId") Long storeId,
+                                              @Param("status") Status status,
+                                              @Param("lastPosterId") Long lastPosterId,
+                                              Pageable pageable);
 
     Optional<MenuPoster> findByIdAndDeletedFalse(Long id);
 }
@@ -5,9 +5,10 @@ import com.domain.menu.dto.request.MenuPosterAssetCreateRequest;
 import com.domain.menu.dto.request.MenuPosterFinalizeRequest;
 import com.domain.menu.dto.request.ReleaseMenuPosterRequest;
 import com.domain.menu.dto.response.*;
-import com.domain.menu.entity.MenuPoster;
+import com.domain.menu.dto.response.MenuPosterGetResponse;
 import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
+import com.global.dto.response.CursorPageResponse;
 import java.util.List;
 
 public interface MenuPosterService {
@@ -27,9 +28,10 @@ public interface MenuPosterService {
 
     ReleaseMenuPosterResponse releaseMenuPosters(ReleaseMenuPosterRequest request, String makerEmail);
 
-    List<MenuPoster> getMyMenuPosters(String email);
+    CursorPageResponse<MenuPosterGetResponse> getMyMenuPosters(String email, Long lastPosterId, int pageSize);
 
-    List<MenuPoster> getReceivedMenuPosters(String email);
+    CursorPageResponse<MenuPosterGetResponse> getReceivedMenuPosters(String email, Long lastPosterId,
+                                                                     int pageSize);
 
     List<AdoptedMenuPosterResponse> getAdoptedMenuPosters(Long storeId, String eaterEmail);
 }
@@ -6,11 +6,13 @@ import com.domain.menu.dto.request.MenuPosterAssetCreateRequest;
 import com.domain.menu.dto.request.MenuPosterFinalizeRequest;
 import com.domain.menu.dto.request.ReleaseMenuPosterRequest;
 import com.domain.menu.dto.response.*;
+import com.domain.menu.dto.response.MenuPosterGetResponse;
 import com.domain.menu.entity.AdoptedMenuPoster;
 import com.domain.menu.entity.Menu;
 import com.domain.menu.entity.MenuPoster;
 import com.domain.menu.entity.MenuPosterAsset;
 import com.domain.menu.entity.MenuPosterMenu;
+import com.domain.menu.event.MenuPosterFinalizedEvent;
 import com.domain.menu.redis.MenuPosterAssetRedisPublisher;
 import com.domain.menu.repository.AdoptedMenuPosterRepository;
 import com.domain.menu.repository.MenuPosterAssetRepository;
@@ -27,6 +29,7 @@ import com.global.constants.ErrorCode;
 import com.global.constants.Status;
 import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
+import com.global.dto.response.CursorPageResponse;
 import com.global.entity.BaseEntity;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
@@ -36,6 +39,7 @@ import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -55,6 +59,7 @@ public class MenuPosterServiceImpl implements MenuPosterService {
     private final MenuValidator menuValidator;
     private final MenuPosterAssetRedisPublisher menuPosterAssetRedisPublisher;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -137,6 +142,7 @@ public class MenuPosterServiceImpl implements MenuPosterService {
 
         menuPoster.updateDescription(request.description());
         menuPoster.updateStatus(Status.SUCCESS);
+        eventPublisher.publishEvent(MenuPosterFinalizedEvent.of(menuPoster));
 
         return MenuPosterFinalizeResponse.from(menuPoster);
     }
@@ -213,13 +219,22 @@ public class MenuPosterServiceImpl implements MenuPosterService {
     }
 
     @Override
-    public List<MenuPoster> getMyMenuPosters(final String email) {
-        return menuPosterRepository.findByUserIdAndStatus(getEaterId(email), Status.SUCCESS);
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MenuPosterGetResponse> getMyMenuPosters(final String email, final Long lastPosterId,
+                                                                      final int pageSize) {
+        List<MenuPosterGetResponse> rows = menuPosterRepository.findUserPage(getEaterId(email), Status.SUCCESS,
+                lastPosterId, CursorPageResponse.request(pageSize));
+        return CursorPageResponse.of(rows, pageSize, MenuPosterGetResponse::id);
     }
 
     @Override
-    public List<MenuPoster> getReceivedMenuPosters(final String email) {
-        return menuPosterRepository.findByStoreIdAndStatus(getStoreId(email), Status.SUCCESS);
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MenuPosterGetResponse> getReceivedMenuPosters(final String email,
+                                                                            final Long lastPosterId,
+                                                                            final int pageSize) {
+        List<MenuPosterGetResponse> rows = menuPosterRepository.findStorePage(getStoreId(email), Status.SUCCESS,
+                lastPosterId, CursorPageResponse.request(pageSize));
+        return CursorPageResponse.of(rows, pageSize, MenuPosterGetResponse::id);
     }
 
     @Override
@@ -8,12 +8,13 @@ import com.domain.review.dto.response.MyReviewResponse;
 import com.domain.review.dto.response.ReviewAssetRequestResponse;
 import com.domain.review.dto.response.ReviewAssetResultResponse;
 import com.domain.review.dto.response.ReviewDetailResponse;
+import com.domain.review.dto.response.RankedReviewFeedResult;
 import com.domain.review.dto.response.ReviewFeedResponse;
 import com.domain.review.dto.response.ReviewFeedResult;
 import com.domain.review.dto.response.ReviewFinalizeResponse;
 import com.domain.review.dto.response.ReviewScrapResult;
 import com.domain.review.entity.Review;
-import com.domain.review.mapper.ReviewMapper;
+import com.domain.review.service.ReviewExportService;
 import com.domain.review.service.ReviewScrapService;
 import com.domain.review.service.ReviewService;
 import com.domain.review.service.ReviewThumbnailService;
@@ -36,10 +37,10 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -54,6 +55,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -65,8 +67,7 @@ public class ReviewController {
     private final ReviewService reviewService;
     private final ReviewScrapService reviewScrapService;
     private final ReviewThumbnailService reviewThumbnailService;
-
-    private final ReviewMapper reviewMapper;
+    private final ReviewExportService reviewExportService;
 
     @Operation(
             summary = "1단계 - 리뷰 에셋 생성 요청",
@@ -276,6 +277,36 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 위치 기반 순위 피드 조회 (거리, 최신성, 스크랩 수 반영)
+     *
+     * @param distance 조회 반경 (선택, 기본값: 500m)
+     * @param cursor   이전 응답의 nextCursor (선택, 첫 페이지면 생략)
+     * @return 순위 피드 목록과 다음 페이지 커서
+     */
+    @ApiUnauthorizedError
+    @ApiInternalServerError
+    @PreAuthorize("hasAnyAuthority('EATER','MAKER')")
+    @GetMapping("/feed/ranked")
+    public ResponseEntity<BaseResponse> getRankedReviewFeed(
+            @Valid ReviewLocationRequest request,
+            @RequestParam(defaultValue = "500")
+            Integer distance,
+            @RequestParam(required = false)
+            String cursor,
+            @AuthenticationPrincipal final String email
+    ) {
+        log.info("Ranked review feed request - lat: {}, lon: {}, distance: {}m, cursor: {}",
+                request.latitude(), request.longitude(), distance, cursor);
+
+        RankedReviewFeedResult result = reviewService.getRankedReviewFeed(request, distance, cursor, email);
+
+        SuccessResponse<RankedReviewFeedResult> response =
+                SuccessResponse.of("FEED_RANKED_FETCHED", "순위 피드가 성공적으로 조회되었습니다.", 200, result);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 리뷰 상세 정보 조회
      *
@@ -457,20 +488,47 @@ public class ReviewController {
     }
 
     @GetMapping("/scraps")
-    public ResponseEntity<BaseResponse> getMyScrapReviews(@AuthenticationPrincipal String email) {
-        List<Review> scraps = reviewScrapService.getScrapReviews(email);
-        return ApiResponseFactory.success(SuccessCode.REVIEW_SCRAP_LIST, reviewMapper.toScrapResponse(scraps));
+    public ResponseEntity<BaseResponse> getMyScrapReviews(
+            @RequestParam(required = false) Long lastReviewId,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @AuthenticationPrincipal String email
+    ) {
+        return ApiResponseFactory.success(SuccessCode.REVIEW_SCRAP_LIST,
+                reviewScrapService.getScrapReviews(email, lastReviewId, pageSize));
     }
 
     @GetMapping("/received")
-    public ResponseEntity<BaseResponse> getMyReceivedReviews(@AuthenticationPrincipal String email) {
-        List<Review> reviews = reviewService.getMyReceivedReviews(email);
-        return ApiResponseFactory.success(SuccessCode.REVIEW_RECEIVED_LIST, reviewMapper.toReceivedResponse(reviews));
+    public ResponseEntity<BaseResponse> getMyReceivedReviews(
+            @RequestParam(required = false) Long lastReviewId,
+            @RequestParam(defaultValue = "20") int pageSize,
+            @AuthenticationPrincipal String email
+    ) {
+        return ApiResponseFactory.success(SuccessCode.REVIEW_RECEIVED_LIST,
+                reviewService.getMyReceivedReviews(email, lastReviewId, pageSize));
+    }
+
+    /**
+     * 받은 리뷰 전체 내보내기 (한 줄에 리뷰 하나인 NDJSON 스트리밍)
+     */
+    @Operation(
+            summary = "받은 리뷰 내보내기",
+            description = "가게가 받은 리뷰 전체를 NDJSON 형식으로 스트리밍합니다."
+    )
+    @GetMapping(value = "/received/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMyReceivedReviews(@AuthenticationPrincipal String email) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"received-reviews.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(reviewExportService.exportReceivedReviews(email));
     }
 
     @GetMapping
-    public ResponseEntity<BaseResponse> getReviews(@RequestParam("storeId") Long storeId) {
-        List<Review> reviews = reviewService.getReviews(storeId);
-        return ApiResponseFactory.success(SuccessCode.REVIEW_RECEIVED_LIST, reviewMapper.toReceivedResponse(reviews));
+    public ResponseEntity<BaseResponse> getReviews(
+            @RequestParam("storeId") Long storeId,
+            @RequestParam(required = false) Long lastReviewId,
+            @RequestParam(defaultValue = "20") int pageSize
+    ) {
+        return ApiResponseFactory.success(SuccessCode.REVIEW_RECEIVED_LIST,
+                reviewService.getReviews(storeId, lastReviewId, pageSize));
     }
 }
@@ -0,0 +1,24 @@
+package com.domain.review.dto.redis;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 리뷰 카드 캐시 값 - 피드/내 리뷰/스크랩/받은 리뷰 목록이 공통으로 쓰는 필드만 보관
+ * (null 필드는 직렬화에서 제외해 Redis 값 크기를 줄임)
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReviewCard(
+        Long reviewId,
+        String storeName,
+        String description,
+        List<String> menuNames,
+        String imageUrl,
+        String shortsUrl,
+        String thumbnailUrl,
+        LocalDateTime createdAt
+) {
+}
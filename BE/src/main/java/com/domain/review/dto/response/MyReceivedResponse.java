@@ -1,12 +1,15 @@
 package com.domain.review.dto.response;
 
+import java.time.LocalDateTime;
 import lombok.Builder;
 
 @Builder
 public record MyReceivedResponse(
+        Long reviewId,
         String description,
         String imageUrl,
         String shortsUrl,
-        String thumbnailUrl
+        String thumbnailUrl,
+        LocalDateTime createdAt
 ) {
 }
@@ -4,6 +4,7 @@ import lombok.Builder;
 
 @Builder
 public record MyScrapResponse(
+        Long reviewId,
         String storeName,
         String description,
         String imageUrl,
@@ -0,0 +1,15 @@
+package com.domain.review.dto.response;
+
+import java.util.List;
+
+/**
+ * 순위 피드 결과
+ *
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서, 마지막 페이지면 null
+ */
+public record RankedReviewFeedResult(List<ReviewFeedResponse> reviews, boolean hasNext, String nextCursor) {
+
+    public static RankedReviewFeedResult empty() {
+        return new RankedReviewFeedResult(List.of(), false, null);
+    }
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -28,7 +29,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "review")
+@Table(
+        name = "review",
+        // 피드 영역 조회 - 셀 IN + SUCCESS + id 키셋을 인덱스만으로 처리
+        indexes = {
+                @Index(name = "idx_review_h3_7_status_id", columnList = "h3_index_7, status, id"),
+                @Index(name = "idx_review_h3_8_status_id", columnList = "h3_index_8, status, id"),
+                @Index(name = "idx_review_h3_9_status_id", columnList = "h3_index_9, status, id"),
+                @Index(name = "idx_review_h3_10_status_id", columnList = "h3_index_10, status, id"),
+                // 가게가 받은 리뷰 목록 - 가게 + SUCCESS + id 키셋
+                @Index(name = "idx_review_store_status_id", columnList = "store_id, status, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -57,6 +69,23 @@ public class Review extends BaseEntity {
     @Column(length = 20)
     private Status status = Status.PENDING;
 
+    // 가게의 H3 인덱스 복사본 (피드를 가게 ID 목록 대신 영역 셀로 조회)
+    @Column(name = "h3_index_7")
+    private Long h3Index7;
+
+    @Column(name = "h3_index_8")
+    private Long h3Index8;
+
+    @Column(name = "h3_index_9")
+    private Long h3Index9;
+
+    @Column(name = "h3_index_10")
+    private Long h3Index10;
+
+    // 스크랩 수 (스크랩 토글 시 원자적 UPDATE로만 변경, 상세 조회가 스크랩 목록을 읽지 않도록)
+    @Column(name = "scrap_count", nullable = false)
+    private int scrapCount;
+
     @OneToOne(mappedBy = "review", cascade = CascadeType.ALL)
     private ReviewAsset reviewAsset;
 
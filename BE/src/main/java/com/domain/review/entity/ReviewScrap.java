@@ -11,6 +11,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,7 +20,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "review_scrap")
+@Table(
+        name = "review_scrap",
+        // 사용자당 리뷰 1회 스크랩 보장 + (user_id, review_id) 존재 확인 인덱스
+        uniqueConstraints = @UniqueConstraint(name = "uk_review_scrap_user_review",
+                columnNames = {"user_id", "review_id"})
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
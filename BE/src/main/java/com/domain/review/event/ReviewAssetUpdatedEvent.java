@@ -0,0 +1,10 @@
+package com.domain.review.event;
+
+/**
+ * 리뷰 에셋 생성 결과가 반영되어 리뷰 카드의 이미지/숏츠/썸네일이 바뀜
+ */
+public record ReviewAssetUpdatedEvent(
+        Long reviewId,
+        Long reviewAssetId
+) {
+}
@@ -0,0 +1,31 @@
+package com.domain.review.event;
+
+import com.domain.review.entity.Review;
+import com.domain.store.entity.Store;
+import com.global.constants.Status;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰가 삭제되어 피드에서 빠져야 함
+ *
+ * @param published 삭제 전 SUCCESS 상태였는지 (작성 수 통계 차감 여부)
+ */
+public record ReviewDeletedEvent(
+        Long reviewId,
+        Long storeId,
+        Long userId,
+        Double storeLatitude,
+        Double storeLongitude,
+        boolean published,
+        LocalDateTime deletedAt
+) {
+    public static ReviewDeletedEvent of(Review review) {
+        Store store = review.getStore();
+        return new ReviewDeletedEvent(
+                review.getId(), store.getId(), review.getUser().getId(),
+                store.getLatitude(), store.getLongitude(),
+                review.getStatus() == Status.SUCCESS,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.domain.review.event;
+
+import com.domain.review.entity.Review;
+import com.domain.store.entity.Store;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰가 최종 등록(SUCCESS)되어 피드에 노출되기 시작함
+ */
+public record ReviewFinalizedEvent(
+        Long reviewId,
+        Long storeId,
+        Long userId,
+        Double storeLatitude,
+        Double storeLongitude,
+        LocalDateTime finalizedAt
+) {
+    public static ReviewFinalizedEvent of(Review review) {
+        Store store = review.getStore();
+        return new ReviewFinalizedEvent(
+                review.getId(), store.getId(), review.getUser().getId(),
+                store.getLatitude(), store.getLongitude(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.domain.review.event;
+
+/**
+ * 스크랩 추가/취소가 DB에 실제로 반영됨 (write-behind 반영 트랜잭션 안에서 발행)
+ *
+ * @param scrapped true면 추가, false면 취소
+ */
+public record ReviewScrapPersistedEvent(
+        Long reviewId,
+        Long userId,
+        boolean scrapped
+) {
+}
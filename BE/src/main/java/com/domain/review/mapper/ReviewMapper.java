@@ -1,14 +1,19 @@
 package com.domain.review.mapper;
 
+import com.domain.menu.entity.Menu;
 import com.domain.review.constants.ReviewAssetType;
+import com.domain.review.dto.redis.ReviewCard;
 import com.domain.review.dto.request.ReviewAssetCreateRequest;
 import com.domain.review.dto.response.MyReceivedResponse;
+import com.domain.review.dto.response.MyReviewResponse;
 import com.domain.review.dto.response.MyScrapResponse;
 import com.domain.review.dto.response.ReviewAssetRequestResponse;
 import com.domain.review.dto.response.ReviewAssetResultResponse;
+import com.domain.review.dto.response.ReviewFeedResponse;
 import com.domain.review.dto.response.ReviewFinalizeResponse;
 import com.domain.review.entity.Review;
 import com.domain.review.entity.ReviewAsset;
+import com.domain.review.entity.ReviewMenu;
 import com.domain.store.entity.Store;
 import com.domain.user.entity.User;
 import com.global.constants.Status;
@@ -27,6 +32,10 @@ public interface ReviewMapper {
                 .store(store)
                 .user(user)
                 .status(Status.PENDING)
+                .h3Index7(store.getH3Index7())
+                .h3Index8(store.getH3Index8())
+                .h3Index9(store.getH3Index9())
+                .h3Index10(store.getH3Index10())
                 .build();
     }
 
@@ -72,18 +81,47 @@ public interface ReviewMapper {
         return new ReviewAssetResultResponse(type, imageUrl, shortsUrl, thumbnailPath);
     }
 
-    @Mapping(target = "storeName", source = "store.name")
-    @Mapping(target = "imageUrl", source = "reviewAsset.imageUrl")
-    @Mapping(target = "shortsUrl", source = "reviewAsset.shortsUrl")
-    @Mapping(target = "thumbnailUrl", source = "reviewAsset.thumbnailPath")
-    MyScrapResponse toResponse(Review review);
+    // 리뷰 → 카드 캐시 값 (가게/에셋/메뉴를 함께 조회한 리뷰)
+    default ReviewCard toCard(Review review) {
+        ReviewAsset asset = review.getReviewAsset();
 
-    List<MyScrapResponse> toScrapResponse(List<Review> reviewList);
+        return ReviewCard.builder()
+                .reviewId(review.getId())
+                .storeName(review.getStore().getName())
+                .description(review.getDescription())
+                .menuNames(toMenuNames(review))
+                .imageUrl(asset != null ? asset.getImageUrl() : null)
+                .shortsUrl(asset != null ? asset.getShortsUrl() : null)
+                .thumbnailUrl(asset != null ? asset.getThumbnailPath() : null)
+                .createdAt(review.getCreatedAt())
+                .build();
+    }
+
+    // 리뷰 → 피드 카드 DTO (가게/에셋/메뉴를 함께 조회한 리뷰)
+    default ReviewFeedResponse toFeedResponse(Review review) {
+        return toFeedResponse(toCard(review));
+    }
+
+    // 카드 → 목록별 응답 DTO
+    ReviewFeedResponse toFeedResponse(ReviewCard card);
 
-    @Mapping(target = "imageUrl", source = "reviewAsset.imageUrl")
-    @Mapping(target = "shortsUrl", source = "reviewAsset.shortsUrl")
-    @Mapping(target = "thumbnailUrl", source = "reviewAsset.thumbnailPath")
-    MyReceivedResponse toReceivedResponse(Review review);
+    MyReviewResponse toMyReviewResponse(ReviewCard card);
 
-    List<MyReceivedResponse> toReceivedResponse(List<Review> reviewList);
+    MyScrapResponse toScrapResponse(ReviewCard card);
+
+    MyReceivedResponse toReceivedResponse(ReviewCard card);
+
+    // 리뷰 → 메뉴 이름 목록 (Review -> ReviewMenu -> Menu.name, null 제외 및 중복 제거)
+    default List<String> toMenuNames(Review review) {
+        if (review == null || review.getReviewMenus() == null) {
+            return List.of();
+        }
+        return review.getReviewMenus().stream()
+                .map(ReviewMenu::getMenu)
+                .filter(Objects::nonNull)
+                .map(Menu::getName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
 }
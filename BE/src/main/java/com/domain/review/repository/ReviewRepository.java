@@ -1,51 +1,220 @@
 package com.domain.review.repository;
 
+import com.domain.review.dto.response.MyReceivedResponse;
 import com.domain.review.entity.Review;
 import com.global.constants.Status;
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 리뷰 데이터베이스 접근을 위한 Repository 인터페이스
  */
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    // 순위 피드 후보 - 영역 내 가게별 최신 SUCCESS 리뷰 [id, store_id, created_at, scrap_count] (H3 컬럼만 다름)
+    String RANKING_CANDIDATES_SELECT = """
+            SELECT c.id, c.store_id, c.created_at, c.scrap_count
+            FROM (
+                SELECT r.id, r.store_id, r.created_at, r.scrap_count,
+                       ROW_NUMBER() OVER (PARTITION BY r.store_id ORDER BY r.id DESC) AS rn
+                FROM review r
+                WHERE r.status = 'SUCCESS'
+                  AND r.created_at >= :since
+                  AND\s""";
+    String RANKING_CANDIDATES_WHERE = """
+             IN (:h3Indexes)
+            ) c
+            WHERE c.rn <= :perStore
+            """;
+
     /**
-     * 특정 Store들의 리뷰를 최신순으로 조회 (무한스크롤)
+     * 특정 Store들의 리뷰 ID를 최신순으로 조회 (무한스크롤 1단계)
+     * - ID만 조회하므로 LIMIT이 SQL에 그대로 적용된다 (store_id 인덱스 + id 키셋).
      */
-    @Query("SELECT DISTINCT r FROM Review r " +
-            "LEFT JOIN FETCH r.reviewAsset ra " +
-            "LEFT JOIN FETCH r.store s " +
-            "LEFT JOIN FETCH r.reviewMenus rm " +
+    @Query("SELECT r.id FROM Review r " +
             "WHERE r.store.id IN :storeIds " +
+            "AND r.status = :status " +
             "AND (:lastReviewId IS NULL OR r.id < :lastReviewId) " +
             "ORDER BY r.id DESC")
-    List<Review> findByStoreIdInOrderByIdDescWithAssets(
+    List<Long> findIdsByStoreIdInOrderByIdDesc(
             @Param("storeIds") List<Long> storeIds,
+            @Param("status") Status status,
             @Param("lastReviewId") Long lastReviewId,
             Pageable pageable);
 
     /**
-     * 사용자 ID로 리뷰 목록 조회 전체 리뷰를 최신순으로 조회 (무한스크롤)
+     * 전체 리뷰 ID를 최신순으로 조회 (무한스크롤 1단계)
+     */
+    @Query("SELECT r.id FROM Review r " +
+            "WHERE r.status = :status " +
+            "AND (:lastReviewId IS NULL OR r.id < :lastReviewId) " +
+            "ORDER BY r.id DESC")
+    List<Long> findIdsOrderByIdDesc(
+            @Param("status") Status status,
+            @Param("lastReviewId") Long lastReviewId,
+            Pageable pageable);
+
+    /**
+     * 영역(H3 셀) 내 리뷰 ID를 최신순으로 조회 - 해상도별 컬럼, 결과는 [id, store_id]
+     * - (h3_index, status, id) 인덱스로 가게 ID 목록 없이 조회한다.
+     */
+    @Query("SELECT r.id, r.store.id FROM Review r " +
+            "WHERE r.h3Index7 IN :h3Indexes " +
+            "AND r.status = :status " +
+            "AND (:lastReviewId IS NULL OR r.id < :lastReviewId) " +
+            "ORDER BY r.id DESC")
+    List<Object[]> findIdsByH3Index7In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("status") Status status,
+            @Param("lastReviewId") Long lastReviewId,
+            Pageable pageable);
+
+    @Query("SELECT r.id, r.store.id FROM Review r " +
+            "WHERE r.h3Index8 IN :h3Indexes " +
+            "AND r.status = :status " +
+            "AND (:lastReviewId IS NULL OR r.id < :lastReviewId) " +
+            "ORDER BY r.id DESC")
+    List<Object[]> findIdsByH3Index8In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("status") Status status,
+            @Param("lastReviewId") Long lastReviewId,
+            Pageable pageable);
+
+    @Query("SELECT r.id, r.store.id FROM Review r " +
+            "WHERE r.h3Index9 IN :h3Indexes " +
+            "AND r.status = :status " +
+            "AND (:lastReviewId IS NULL OR r.id < :lastReviewId) " +
+            "ORDER BY r.id DESC")
+    List<Object[]> findIdsByH3Index9In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("status") Status status,
+            @Param("lastReviewId") Long lastReviewId,
+            Pageable pageable);
+
+    @Query("SELECT r.id, r.store.id FROM Review r " +
+            "WHERE r.h3Index10 IN :h3Indexes " +
+            "AND r.status = :status " +
+            "AND (:lastReviewId IS NULL OR r.id < :lastReviewId) " +
+            "ORDER BY r.id DESC")
+    List<Object[]> findIdsByH3Index10In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("status") Status status,
+            @Param("lastReviewId") Long lastReviewId,
+            Pageable pageable);
+
+    /**
+     * 순위 피드 후보 스트리밍 - 영역 내 가게마다 since 이후 최신 리뷰 최대 perStore개 (해상도별 컬럼)
+     * - 후보를 모두 올리지 않고 행 단위로 읽는다 (트랜잭션 안에서 소비하고 닫아야 함).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(value = RANKING_CANDIDATES_SELECT + "r.h3_index_7" + RANKING_CANDIDATES_WHERE, nativeQuery = true)
+    Stream<Object[]> streamRankingCandidatesByH3Index7In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("since") LocalDateTime since,
+            @Param("perStore") int perStore);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(value = RANKING_CANDIDATES_SELECT + "r.h3_index_8" + RANKING_CANDIDATES_WHERE, nativeQuery = true)
+    Stream<Object[]> streamRankingCandidatesByH3Index8In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("since") LocalDateTime since,
+            @Param("perStore") int perStore);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(value = RANKING_CANDIDATES_SELECT + "r.h3_index_9" + RANKING_CANDIDATES_WHERE, nativeQuery = true)
+    Stream<Object[]> streamRankingCandidatesByH3Index9In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("since") LocalDateTime since,
+            @Param("perStore") int perStore);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(value = RANKING_CANDIDATES_SELECT + "r.h3_index_10" + RANKING_CANDIDATES_WHERE, nativeQuery = true)
+    Stream<Object[]> streamRankingCandidatesByH3Index10In(
+            @Param("h3Indexes") List<Long> h3Indexes,
+            @Param("since") LocalDateTime since,
+            @Param("perStore") int perStore);
+
+    /**
+     * 순위 피드 후보 스트리밍 - 지정한 가게마다 since 이후 최신 리뷰 최대 perStore개
+     * - H3 채우기가 끝나기 전에는 셀이 빈 리뷰가 영역 조회에서 빠지므로 가게 ID로 조회한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(value = RANKING_CANDIDATES_SELECT + "r.store_id IN (:storeIds)" + """
+            ) c
+            WHERE c.rn <= :perStore
+            """, nativeQuery = true)
+    Stream<Object[]> streamRankingCandidatesByStoreIdIn(
+            @Param("storeIds") List<Long> storeIds,
+            @Param("since") LocalDateTime since,
+            @Param("perStore") int perStore);
+
+    /**
+     * 가게별 최신 SUCCESS 리뷰 ID를 최대 limit개씩 조회 (리뷰 타임라인 적재용)
+     *
+     * @return [store_id, id] 목록
+     */
+    @Query(value = """
+            SELECT ranked.store_id, ranked.id FROM (
+                SELECT r.store_id, r.id,
+                       ROW_NUMBER() OVER (PARTITION BY r.store_id ORDER BY r.id DESC) AS rn
+                FROM review r
+                WHERE r.store_id IN (:storeIds)
+                  AND r.status = 'SUCCESS'
+            ) ranked
+            WHERE ranked.rn <= :limit
+            """, nativeQuery = true)
+    List<Object[]> findLatestSuccessIdsByStoreIdIn(
+            @Param("storeIds") List<Long> storeIds,
+            @Param("limit") int limit);
+
+    /**
+     * 1단계에서 고른 리뷰들을 에셋, 가게, 메뉴와 함께 조회 (무한스크롤 2단계, 순서는 호출 측에서 정렬)
      */
-    List<Review> findByUserId(Long userId);
     @Query("SELECT DISTINCT r FROM Review r " +
             "LEFT JOIN FETCH r.reviewAsset ra " +
             "LEFT JOIN FETCH r.store s " +
             "LEFT JOIN FETCH r.reviewMenus rm " +
-            "WHERE :lastReviewId IS NULL OR r.id < :lastReviewId " +
-            "ORDER BY r.id DESC")
-    List<Review> findAllOrderByIdDescWithAssets(
-            @Param("lastReviewId") Long lastReviewId,
-            Pageable pageable);
+            "LEFT JOIN FETCH rm.menu m " +
+            "WHERE r.id IN :reviewIds")
+    List<Review> findAllWithAssetsByIdIn(@Param("reviewIds") List<Long> reviewIds);
+
+    /**
+     * H3 인덱스가 비어 있는 리뷰에 가게의 H3 인덱스 복사 (id 구간 단위 배치)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE review r JOIN store s ON s.id = r.store_id
+            SET r.h3_index_7 = s.h3_index_7,
+                r.h3_index_8 = s.h3_index_8,
+                r.h3_index_9 = s.h3_index_9,
+                r.h3_index_10 = s.h3_index_10
+            WHERE r.id > :fromId AND r.id <= :toId
+              AND r.h3_index_7 IS NULL
+            """, nativeQuery = true)
+    int copyStoreH3Indexes(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MIN(r.id) FROM Review r WHERE r.h3Index7 IS NULL")
+    Long findMinIdWithoutH3Index();
+
+    @Query("SELECT MAX(r.id) FROM Review r")
+    Long findMaxId();
 
     /**
-     * 가게 ID로 리뷰 목록 조회 Store별 리뷰 개수 조회
+     * 사용자 ID로 리뷰 목록 조회
      */
-    List<Review> findByStoreId(Long storeId);
+    List<Review> findByUserId(Long userId);
 
     @Query("SELECT r.store.id, COUNT(r) FROM Review r " +
             "WHERE r.store.id IN :storeIds " +
@@ -55,32 +224,84 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r " +
             "LEFT JOIN FETCH r.user " +
             "LEFT JOIN FETCH r.store " +
-            "LEFT JOIN FETCH r.scraps s " +
-            "LEFT JOIN FETCH s.user " +
+            "LEFT JOIN FETCH r.reviewAsset " +
             "WHERE r.id = :reviewId")
     Optional<Review> findByIdWithDetails(@Param("reviewId") Long reviewId);
 
+    /**
+     * 스크랩 수를 실제 스크랩 행 수로 재계산 (write-behind 반영 시, 여러 번 실행해도 결과가 같음)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE review r
+            SET r.scrap_count = (SELECT COUNT(*) FROM review_scrap rs WHERE rs.review_id = r.id)
+            WHERE r.id IN (:reviewIds)
+            """, nativeQuery = true)
+    int recountScrapCounts(@Param("reviewIds") List<Long> reviewIds);
+
+    /**
+     * 스크랩 수가 실제 스크랩 행 수와 다른 리뷰 교정 (id 구간 단위 배치)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE review r
+            SET r.scrap_count = (SELECT COUNT(*) FROM review_scrap rs WHERE rs.review_id = r.id)
+            WHERE r.id > :fromId AND r.id <= :toId
+              AND r.scrap_count <> (SELECT COUNT(*) FROM review_scrap rs WHERE rs.review_id = r.id)
+            """, nativeQuery = true)
+    int reconcileScrapCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT r.scrapCount FROM Review r WHERE r.id = :reviewId")
+    Optional<Integer> findScrapCountById(@Param("reviewId") Long reviewId);
+
+    /**
+     * 내 리뷰 ID 목록 (카드는 리뷰 카드 캐시에서 채움)
+     */
     @Query("""
-            SELECT r FROM Review r
-            LEFT JOIN FETCH r.store
+            SELECT r.id FROM Review r
             WHERE r.user.id = :userId
               AND (:lastReviewId IS NULL OR r.id < :lastReviewId)
             ORDER BY r.id DESC
             """)
-    List<Review> findMyReviews(
+    List<Long> findMyReviewIds(
             @Param("userId") Long userId,
             @Param("lastReviewId") Long lastReviewId,
             Pageable pageable
     );
 
+    /**
+     * 가게가 받은 리뷰 ID 목록 (id 키셋 커서, 카드는 리뷰 카드 캐시에서 채움)
+     */
     @Query("""
-                select r from Review r
-                join ReviewScrap rs on rs.review.id = r.id
-                where rs.user.id = :userId
+            SELECT r.id FROM Review r
+            WHERE r.store.id = :storeId
+              AND r.status = :status
+              AND (:lastReviewId IS NULL OR r.id < :lastReviewId)
+            ORDER BY r.id DESC
             """)
-    List<Review> findAllScrappedByUserId(@Param("userId") Long userId);
+    List<Long> findReceivedIds(
+            @Param("storeId") Long storeId,
+            @Param("status") Status status,
+            @Param("lastReviewId") Long lastReviewId,
+            Pageable pageable
+    );
 
-    List<Review> findByStoreIdAndStatusOrderByCreatedAtDesc(Long storeId, Status status);
+    /**
+     * 가게가 받은 리뷰 전체 스트리밍 (내보내기용, 트랜잭션 안에서 소비해야 함)
+     * - MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 행 단위로 읽어 결과 전체를 메모리에 올리지 않는다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            SELECT new com.domain.review.dto.response.MyReceivedResponse(
+                r.id, r.description, a.imageUrl, a.shortsUrl, a.thumbnailPath, r.createdAt)
+            FROM Review r
+            LEFT JOIN r.reviewAsset a
+            WHERE r.store.id = :storeId
+              AND r.status = :status
+            ORDER BY r.id DESC
+            """)
+    Stream<MyReceivedResponse> streamReceived(@Param("storeId") Long storeId, @Param("status") Status status);
 
     Long countByUserIdAndStatus(Long userId, Status status);
 
@@ -1,10 +1,14 @@
 package com.domain.review.repository;
 
 import com.domain.review.entity.ReviewScrap;
-import io.lettuce.core.dynamic.annotation.Param;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -27,5 +31,51 @@ public interface ReviewScrapRepository extends JpaRepository<ReviewScrap, Long>
      */
     int countByReviewId(Long reviewId);
 
+    /**
+     * 특정 사용자가 특정 리뷰를 스크랩했는지 확인 ((user_id, review_id) 유니크 인덱스로 존재 확인)
+     *
+     * @param userId   사용자 ID
+     * @param reviewId 리뷰 ID
+     * @return 스크랩 여부
+     */
+    boolean existsByUserIdAndReviewId(Long userId, Long reviewId);
+
+    /**
+     * 특정 리뷰를 스크랩한 사용자 ID 목록 (Redis 스크랩 집합 적재용)
+     */
+    @Query("SELECT rs.user.id FROM ReviewScrap rs WHERE rs.review.id = :reviewId")
+    List<Long> findUserIdsByReviewId(@Param("reviewId") Long reviewId);
+
+    /**
+     * 스크랩 추가 - 이미 있으면 무시 (write-behind 반영을 여러 번 실행해도 결과가 같음)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_scrap (user_id, review_id, created_at) "
+            + "VALUES (:userId, :reviewId, :createdAt)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("reviewId") Long reviewId,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 스크랩 삭제 - 없으면 무시
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewScrap rs WHERE rs.user.id = :userId AND rs.review.id = :reviewId")
+    int deleteByUserIdAndReviewId(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+
     Long countByUserId(Long userId);
+
+    /**
+     * 사용자가 스크랩한 리뷰 ID 목록 ((user_id, review_id) 유니크 인덱스만 역순으로 읽는 키셋 커서)
+     */
+    @Query("""
+            SELECT rs.review.id FROM ReviewScrap rs
+            WHERE rs.user.id = :userId
+              AND (:lastReviewId IS NULL OR rs.review.id < :lastReviewId)
+            ORDER BY rs.review.id DESC
+            """)
+    List<Long> findScrappedReviewIds(
+            @Param("userId") Long userId,
+            @Param("lastReviewId") Long lastReviewId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,234 @@
+package com.domain.review.service;
+
+import com.domain.review.dto.redis.ReviewCard;
+import com.domain.review.entity.Review;
+import com.domain.review.event.ReviewAssetUpdatedEvent;
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.event.ReviewFinalizedEvent;
+import com.domain.review.mapper.ReviewMapper;
+import com.domain.review.repository.ReviewRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.global.constants.Status;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리뷰 카드 캐시 (리뷰 ID 단위)
+ * - 목록 API는 리뷰 ID만 조회하고, 카드는 L1(Caffeine) → L2(Redis MGET) → DB(IN 조회 한 번) 순서로 페이지 단위로 채운다.
+ * - SUCCESS 리뷰의 카드만 저장한다. 작성 중인 리뷰는 에셋/설명이 곧 바뀌므로 매번 DB에서 만든다.
+ * - 리뷰 최종 등록, 에셋 결과 반영, 삭제 시 카드를 지우고 다른 노드의 L1도 pub/sub으로 함께 무효화한다.
+ */
+@Slf4j
+@Service
+public class ReviewCardCacheService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ReviewRepository reviewRepository;
+    private final ReviewMapper reviewMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public ReviewCardCacheService(
+            @Qualifier("redisStreamTemplate") RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            ReviewRepository reviewRepository,
+            ReviewMapper reviewMapper,
+            RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.reviewRepository = reviewRepository;
+        this.reviewMapper = reviewMapper;
+        this.listenerContainer = listenerContainer;
+    }
+
+    // 리뷰 카드 - review:card:123 (ReviewCard JSON 문자열)
+    private static final String CARD_KEY = "review:card:";
+    // 무효화 채널 - "123" (무효화된 리뷰 ID)
+    private static final String INVALIDATION_CHANNEL = "review:card:invalidation";
+
+    private static final Duration CARD_TTL = Duration.ofHours(6);
+    private static final Duration L1_TTL = Duration.ofMinutes(5);
+    private static final int L1_MAXIMUM_SIZE = 10_000;
+
+    // L1 - 역직렬화된 카드를 보관해 인기 리뷰는 Redis 왕복 없이 제공
+    private final Cache<Long, ReviewCard> l1Cards = Caffeine.newBuilder()
+            .maximumSize(L1_MAXIMUM_SIZE)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    @PostConstruct
+    void initialize() {
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 리뷰 ID 순서대로 카드 조회 (그사이 삭제된 리뷰는 제외)
+     *
+     * @param reviewIds 한 페이지 분량의 리뷰 ID
+     */
+    public List<ReviewCard> getCards(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ReviewCard> cards = new HashMap<>(l1Cards.getAllPresent(reviewIds));
+
+        List<Long> missing = findMissing(reviewIds, cards);
+        if (!missing.isEmpty()) {
+            cards.putAll(readFromRedis(missing));
+            missing = findMissing(reviewIds, cards);
+        }
+        if (!missing.isEmpty()) {
+            cards.putAll(loadFromDatabase(missing));
+        }
+
+        return reviewIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 리뷰 카드 무효화 (L2 삭제 후 모든 노드의 L1 제거)
+     */
+    public void evict(Long reviewId) {
+        l1Cards.invalidate(reviewId);
+        try {
+            redisTemplate.delete(cardKey(reviewId));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, reviewId.toString());
+        } catch (Exception e) {
+            // 무효화 실패 시에도 카드 TTL 안에 갱신됨
+            log.warn("Failed to evict review card {}: {}", reviewId, e.getMessage());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFinalized(ReviewFinalizedEvent event) {
+        evict(event.reviewId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewAssetUpdated(ReviewAssetUpdatedEvent event) {
+        evict(event.reviewId());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        evict(event.reviewId());
+    }
+
+    private Map<Long, ReviewCard> readFromRedis(List<Long> reviewIds) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(reviewIds.stream().map(this::cardKey).toList());
+            if (values == null) {
+                return Map.of();
+            }
+
+            Map<Long, ReviewCard> found = new HashMap<>();
+            for (int i = 0; i < reviewIds.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    found.put(reviewIds.get(i), objectMapper.readValue(value, ReviewCard.class));
+                }
+            }
+            l1Cards.putAll(found);
+            return found;
+        } catch (Exception e) {
+            log.warn("Failed to read {} review cards: {}", reviewIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Map<Long, ReviewCard> loadFromDatabase(List<Long> reviewIds) {
+        Map<Long, ReviewCard> loaded = new HashMap<>();
+        Map<Long, ReviewCard> cacheable = new LinkedHashMap<>();
+        for (Review review : reviewRepository.findAllWithAssetsByIdIn(reviewIds)) {
+            ReviewCard card = reviewMapper.toCard(review);
+            loaded.put(review.getId(), card);
+            if (review.getStatus() == Status.SUCCESS) {
+                cacheable.put(review.getId(), card);
+            }
+        }
+
+        l1Cards.putAll(cacheable);
+        writeToRedis(cacheable);
+        return loaded;
+    }
+
+    private void writeToRedis(Map<Long, ReviewCard> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, String> serialized = new LinkedHashMap<>();
+            for (Map.Entry<Long, ReviewCard> entry : cards.entrySet()) {
+                serialized.put(cardKey(entry.getKey()), objectMapper.writeValueAsString(entry.getValue()));
+            }
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    serialized.forEach((key, value) -> ops.opsForValue().set(key, value, CARD_TTL));
+                    return null;
+                }
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize review cards: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to cache {} review cards: {}", cards.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드(자신 포함)에서 무효화된 카드의 L1 제거
+     */
+    private void onInvalidation(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+
+        try {
+            l1Cards.invalidate(Long.valueOf(body.toString().trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed review card invalidation: {}", body);
+        }
+    }
+
+    private List<Long> findMissing(List<Long> reviewIds, Map<Long, ReviewCard> cards) {
+        return reviewIds.stream()
+                .filter(reviewId -> !cards.containsKey(reviewId))
+                .distinct()
+                .toList();
+    }
+
+    private String cardKey(Long reviewId) {
+        return CARD_KEY + reviewId;
+    }
+}
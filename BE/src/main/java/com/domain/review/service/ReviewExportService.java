@@ -0,0 +1,82 @@
+package com.domain.review.service;
+
+import com.domain.review.dto.response.MyReceivedResponse;
+import com.domain.review.repository.ReviewRepository;
+import com.domain.user.repository.MakerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.constants.ErrorCode;
+import com.global.constants.Status;
+import com.global.exception.ApiException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 가게가 받은 리뷰 내보내기 (NDJSON 스트리밍)
+ * - 페이지 없이 DB 커서로 한 행씩 읽어 바로 응답에 쓰므로 리뷰 수가 늘어도 메모리 사용량이 일정하다.
+ * - 응답 쓰기는 요청 스레드 밖에서 실행되므로 스트림 소비 구간을 읽기 전용 트랜잭션으로 직접 감싼다.
+ */
+@Slf4j
+@Service
+public class ReviewExportService {
+
+    private final MakerRepository makerRepository;
+    private final ReviewRepository reviewRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 클라이언트가 진행 상황을 받을 수 있도록 일정 행마다 flush
+    private static final int FLUSH_INTERVAL = 500;
+
+    public ReviewExportService(MakerRepository makerRepository, ReviewRepository reviewRepository,
+                               ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.makerRepository = makerRepository;
+        this.reviewRepository = reviewRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 사장님 가게가 받은 SUCCESS 리뷰 전체를 한 줄에 하나씩 JSON으로 기록하는 응답 본문
+     * (가게 확인은 응답 시작 전에 처리해 잘못된 요청은 일반 오류 응답으로 반환)
+     *
+     * @param email 사장님 이메일
+     */
+    public StreamingResponseBody exportReceivedReviews(String email) {
+        Long storeId = readOnlyTransaction.execute(status -> makerRepository.findByEmailAndDeletedFalse(email)
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
+                .getStores()
+                .getFirst()
+                .getId());
+
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<MyReceivedResponse> rows = reviewRepository.streamReceived(storeId, Status.SUCCESS)) {
+                long written = write(rows.iterator(), outputStream);
+                log.info("Exported {} received reviews of store {}", written, storeId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long write(Iterator<MyReceivedResponse> rows, OutputStream outputStream) throws IOException {
+        long written = 0;
+        while (rows.hasNext()) {
+            outputStream.write(objectMapper.writeValueAsBytes(rows.next()));
+            outputStream.write('\n');
+            if (++written % FLUSH_INTERVAL == 0) {
+                outputStream.flush();
+            }
+        }
+        outputStream.flush();
+        return written;
+    }
+}
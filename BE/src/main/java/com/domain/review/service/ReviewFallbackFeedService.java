@@ -0,0 +1,324 @@
+package com.domain.review.service;
+
+import com.domain.review.dto.response.ReviewFeedResponse;
+import com.domain.review.entity.Review;
+import com.domain.review.event.ReviewAssetUpdatedEvent;
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.event.ReviewFinalizedEvent;
+import com.domain.review.mapper.ReviewMapper;
+import com.domain.review.repository.ReviewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.constants.Status;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 전체 피드(fallback) 링 버퍼
+ * - 최신 SUCCESS 리뷰 카드 BUFFER_CAPACITY개를 노드 메모리에 두고, 앞쪽 페이지는 DB 조회 없이 제공한다.
+ * - 원본은 Redis sorted set이며 리뷰 최종 등록/에셋 변경/삭제 이벤트로 갱신하고, pub/sub으로 모든 노드가 다시 읽는다.
+ * - 버퍼 밖 구간이거나 버퍼가 준비되지 않았으면 null을 반환해 호출 측이 DB로 조회하게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewFallbackFeedService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ReviewRepository reviewRepository;
+    private final ReviewMapper reviewMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 리뷰 카드 - review:fallback:cards (sorted set, member=직렬화된 ReviewFeedResponse, score=리뷰 ID)
+    private static final String CARDS_KEY = "review:fallback:cards";
+    // 버퍼 하한 - 0이면 모든 SUCCESS 리뷰를 담고 있고, 0보다 크면 그 ID보다 오래된 리뷰는 버퍼에 없음
+    private static final String FLOOR_KEY = "review:fallback:floor";
+    // DB 재적재 잠금 - 여러 노드가 동시에 재적재하지 않도록
+    private static final String REBUILD_LOCK_KEY = "review:fallback:rebuild:lock";
+    // 변경 알림 채널 - 메시지를 받으면 Redis에서 버퍼를 다시 읽음
+    private static final String UPDATE_CHANNEL = "review:fallback:updated";
+
+    private static final int BUFFER_CAPACITY = 200;
+    // 원본 만료 시 DB에서 재적재하므로 이벤트 유실로 생긴 차이도 이 주기 안에 복구됨
+    private static final Duration BUFFER_TTL = Duration.ofHours(1);
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofSeconds(30);
+
+    // 적재된 버퍼에만 추가 (같은 리뷰 카드는 교체), 용량을 넘으면 오래된 카드를 잘라내고 하한을 남은 최솟값으로 올림
+    private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('EXISTS', KEYS[2]) == 0 then
+                    return 0
+                end
+                redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+                local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[3])
+                if overflow > 0 then
+                    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+                    local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+                    redis.call('SET', KEYS[2], oldest[2], 'KEEPTTL')
+                end
+                return 1
+            """, Long.class);
+
+    // 버퍼에 있는 리뷰 카드만 교체 (없으면 0)
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('ZCOUNT', KEYS[1], ARGV[1], ARGV[1]) == 0 then
+                    return 0
+                end
+                redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+                return 1
+            """, Long.class);
+
+    /**
+     * 버퍼 스냅샷 (교체 방식이라 읽기에 잠금이 필요 없음)
+     *
+     * @param cards 리뷰 카드 (최신순)
+     * @param floor 이 ID보다 오래된 리뷰는 버퍼에 없음 (0이면 전부 포함)
+     */
+    private record Snapshot(List<ReviewFeedResponse> cards, long floor) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void initialize() {
+        listenerContainer.addMessageListener(this::onUpdate, new ChannelTopic(UPDATE_CHANNEL));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * 커서 이전의 리뷰 카드 (최신순)
+     *
+     * @return 최대 size개의 카드, 버퍼만으로 정확한 결과를 만들 수 없으면 null
+     */
+    public List<ReviewFeedResponse> findPage(Long lastReviewId, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+
+        List<ReviewFeedResponse> cards = current.cards();
+        int from = lastReviewId == null ? 0 : firstIndexBefore(cards, lastReviewId);
+        List<ReviewFeedResponse> page = cards.subList(from, Math.min(from + size, cards.size()));
+
+        // 버퍼가 잘려 있으면 모자란 만큼이 버퍼 밖에 있을 수 있음
+        if (page.size() < size && current.floor() > 0) {
+            return null;
+        }
+        return List.copyOf(page);
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFinalized(ReviewFinalizedEvent event) {
+        try {
+            List<Review> reviews = reviewRepository.findAllWithAssetsByIdIn(List.of(event.reviewId()));
+            if (reviews.isEmpty()) {
+                return;
+            }
+
+            String card = objectMapper.writeValueAsString(reviewMapper.toFeedResponse(reviews.getFirst()));
+            redisTemplate.execute(APPEND_SCRIPT, List.of(CARDS_KEY, FLOOR_KEY),
+                    event.reviewId(), card, BUFFER_CAPACITY);
+            redisTemplate.convertAndSend(UPDATE_CHANNEL, event.reviewId());
+        } catch (Exception e) {
+            // 다음 조회 시 DB에서 다시 채워지도록 버퍼 제거
+            log.warn("Failed to append review {} to fallback feed: {}", event.reviewId(), e.getMessage());
+            clear();
+        }
+    }
+
+    /**
+     * 에셋 반영으로 바뀐 카드 교체 (버퍼에 있는 SUCCESS 리뷰만)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewAssetUpdated(ReviewAssetUpdatedEvent event) {
+        try {
+            List<Review> reviews = reviewRepository.findAllWithAssetsByIdIn(List.of(event.reviewId()));
+            if (reviews.isEmpty() || reviews.getFirst().getStatus() != Status.SUCCESS) {
+                return;
+            }
+
+            String card = objectMapper.writeValueAsString(reviewMapper.toFeedResponse(reviews.getFirst()));
+            Long replaced = redisTemplate.execute(REPLACE_SCRIPT, List.of(CARDS_KEY), event.reviewId(), card);
+            if (Long.valueOf(1L).equals(replaced)) {
+                redisTemplate.convertAndSend(UPDATE_CHANNEL, event.reviewId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to replace review {} in fallback feed: {}", event.reviewId(), e.getMessage());
+            clear();
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(CARDS_KEY, event.reviewId(), event.reviewId());
+            redisTemplate.convertAndSend(UPDATE_CHANNEL, event.reviewId());
+        } catch (Exception e) {
+            log.warn("Failed to remove review {} from fallback feed: {}", event.reviewId(), e.getMessage());
+            clear();
+        }
+    }
+
+    /**
+     * Redis 원본 만료/유실 대비 주기적 재적재
+     */
+    @Scheduled(fixedDelay = 300000)
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * Redis에서 버퍼를 읽어 스냅샷 교체 (원본이 없으면 DB에서 재적재)
+     */
+    void reload() {
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForValue().get(FLOOR_KEY);
+                    ops.opsForZSet().reverseRange(CARDS_KEY, 0, BUFFER_CAPACITY - 1);
+                    return null;
+                }
+            });
+
+            if (results.get(0) instanceof Number floor && results.get(1) instanceof Set<?> members) {
+                snapshot = new Snapshot(toCards(members), floor.longValue());
+                return;
+            }
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to reload fallback feed buffer: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 최신 SUCCESS 리뷰를 읽어 Redis 원본과 스냅샷을 다시 만든다
+     */
+    private void rebuild() {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(REBUILD_LOCK_KEY, System.currentTimeMillis(), REBUILD_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            // 다른 노드가 재적재 중 - 완료 알림을 받으면 다시 읽음
+            return;
+        }
+
+        List<Long> reviewIds = reviewRepository.findIdsOrderByIdDesc(
+                Status.SUCCESS, null, PageRequest.of(0, BUFFER_CAPACITY));
+        List<ReviewFeedResponse> cards = reviewRepository.findAllWithAssetsByIdIn(reviewIds).stream()
+                .filter(review -> review.getStore() != null)
+                .map(reviewMapper::toFeedResponse)
+                .sorted(Comparator.comparing(ReviewFeedResponse::reviewId).reversed())
+                .toList();
+        long floor = reviewIds.size() >= BUFFER_CAPACITY ? reviewIds.getLast() : 0;
+
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+        for (ReviewFeedResponse card : cards) {
+            try {
+                tuples.add(new DefaultTypedTuple<>(objectMapper.writeValueAsString(card),
+                        card.reviewId().doubleValue()));
+            } catch (Exception e) {
+                log.warn("Failed to serialize fallback card {}: {}", card.reviewId(), e.getMessage());
+            }
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.delete(CARDS_KEY);
+                if (!tuples.isEmpty()) {
+                    ops.opsForZSet().add(CARDS_KEY, tuples);
+                    ops.expire(CARDS_KEY, BUFFER_TTL);
+                }
+                ops.opsForValue().set(FLOOR_KEY, floor, BUFFER_TTL);
+                ops.delete(REBUILD_LOCK_KEY);
+                return null;
+            }
+        });
+        redisTemplate.convertAndSend(UPDATE_CHANNEL, 0L);
+
+        snapshot = new Snapshot(cards, floor);
+        log.info("Rebuilt fallback feed buffer with {} reviews (floor {})", cards.size(), floor);
+    }
+
+    /**
+     * 다른 노드(자신 포함)의 변경 알림 - Redis에서 버퍼를 다시 읽음
+     */
+    private void onUpdate(Message message, byte[] pattern) {
+        reload();
+    }
+
+    private void clear() {
+        try {
+            redisTemplate.delete(List.of(CARDS_KEY, FLOOR_KEY));
+        } catch (Exception e) {
+            log.warn("Failed to clear fallback feed buffer: {}", e.getMessage());
+        }
+        snapshot = null;
+    }
+
+    private List<ReviewFeedResponse> toCards(Set<?> members) {
+        List<ReviewFeedResponse> cards = new ArrayList<>(members.size());
+        for (Object member : members) {
+            try {
+                cards.add(objectMapper.readValue(member.toString(), ReviewFeedResponse.class));
+            } catch (Exception e) {
+                log.warn("Skipping malformed fallback card: {}", e.getMessage());
+            }
+        }
+        return List.copyOf(cards);
+    }
+
+    /**
+     * 최신순 카드 목록에서 ID가 lastReviewId보다 작은 첫 위치 (이진 탐색)
+     */
+    private int firstIndexBefore(List<ReviewFeedResponse> cards, long lastReviewId) {
+        int low = 0;
+        int high = cards.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cards.get(mid).reviewId() >= lastReviewId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,213 @@
+package com.domain.review.service;
+
+import com.domain.common.service.CacheService;
+import com.domain.review.dto.response.ReviewFeedResponse;
+import com.domain.review.dto.response.ReviewFeedResult;
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.event.ReviewFinalizedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 위치 기반 리뷰 피드 페이지 캐시
+ * - (poiId, 거리 밴드, lastReviewId) 단위로 조립이 끝난 피드 페이지를 직렬화해 L1(Caffeine)과 L2(Redis)에 짧게 보관한다.
+ * - 리뷰가 SUCCESS가 되거나 삭제되면 해당 가게를 반경에 포함하는 밴드의 페이지를 모두 지우고,
+ *   다른 노드의 L1도 pub/sub으로 함께 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewFeedCacheService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheService cacheService;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 피드 페이지 - review:feed:page:123:500:first, review:feed:page:123:500:4521 (직렬화된 ReviewFeedResult)
+    private static final String PAGE_KEY = "review:feed:page:";
+    // 밴드별 페이지 인덱스 - review:feed:index:123:500 (set, member=페이지 키, 무효화 시 KEYS 스캔 없이 삭제)
+    private static final String INDEX_KEY = "review:feed:index:";
+    // 무효화 채널 - "123:500,123:1000" (무효화된 밴드 목록)
+    private static final String INVALIDATION_CHANNEL = "review:feed:invalidation";
+    private static final String FIRST_PAGE = "first";
+    private static final String BAND_DELIMITER = ",";
+
+    private static final Duration PAGE_TTL = Duration.ofSeconds(60);
+    private static final Duration L1_TTL = Duration.ofSeconds(10);
+    private static final int L1_MAXIMUM_SIZE = 1000;
+
+    private static final TypeReference<ReviewFeedResult<ReviewFeedResponse>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    // L1 - 같은 노드에서 반복 조회되는 인기 POI 첫 페이지를 Redis 왕복 없이 제공
+    private final Cache<String, ReviewFeedResult<ReviewFeedResponse>> l1Pages = Caffeine.newBuilder()
+            .maximumSize(L1_MAXIMUM_SIZE)
+            .expireAfterWrite(L1_TTL)
+            .build();
+
+    @PostConstruct
+    void initialize() {
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시된 피드 페이지 조회
+     *
+     * @return 캐시된 페이지, 없으면 null
+     */
+    public ReviewFeedResult<ReviewFeedResponse> get(Long poiId, int distance, Long lastReviewId) {
+        String pageKey = pageKey(poiId, distance, lastReviewId);
+
+        ReviewFeedResult<ReviewFeedResponse> local = l1Pages.getIfPresent(pageKey);
+        if (local != null) {
+            return local;
+        }
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(pageKey);
+            if (cached == null) {
+                return null;
+            }
+
+            ReviewFeedResult<ReviewFeedResponse> page = objectMapper.readValue(cached.toString(), PAGE_TYPE);
+            l1Pages.put(pageKey, page);
+            return page;
+        } catch (Exception e) {
+            log.warn("Failed to read feed page {}: {}", pageKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 피드 페이지 저장 (페이지 키를 밴드 인덱스에 함께 등록)
+     */
+    public void put(Long poiId, int distance, Long lastReviewId, ReviewFeedResult<ReviewFeedResponse> page) {
+        String pageKey = pageKey(poiId, distance, lastReviewId);
+        String indexKey = indexKey(poiId, distance);
+
+        try {
+            String serialized = objectMapper.writeValueAsString(page);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForValue().set(pageKey, serialized, PAGE_TTL);
+                    ops.opsForSet().add(indexKey, pageKey);
+                    ops.expire(indexKey, PAGE_TTL);
+                    return null;
+                }
+            });
+            l1Pages.put(pageKey, page);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize feed page {}: {}", pageKey, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to cache feed page {}: {}", pageKey, e.getMessage());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFinalized(ReviewFinalizedEvent event) {
+        invalidate(event.storeId(), event.storeLatitude(), event.storeLongitude());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        invalidate(event.storeId(), event.storeLatitude(), event.storeLongitude());
+    }
+
+    /**
+     * 가게를 반경에 포함하는 모든 밴드의 피드 페이지 무효화
+     */
+    private void invalidate(Long storeId, Double latitude, Double longitude) {
+        try {
+            List<CacheService.CacheKey> bands = cacheService.findAffectedBands(latitude, longitude);
+            if (bands.isEmpty()) {
+                return;
+            }
+
+            List<String> indexKeys = bands.stream()
+                    .map(band -> indexKey(band.poiId(), band.distance()))
+                    .toList();
+            List<Object> indexedPages = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    indexKeys.forEach(indexKey -> ops.opsForSet().members(indexKey));
+                    return null;
+                }
+            });
+
+            List<String> keysToDelete = new ArrayList<>(indexKeys);
+            for (Object pages : indexedPages) {
+                if (pages instanceof Set<?> members) {
+                    members.forEach(member -> keysToDelete.add(member.toString()));
+                }
+            }
+            redisTemplate.delete(keysToDelete);
+
+            String message = bands.stream()
+                    .map(band -> band.poiId() + ":" + band.distance())
+                    .collect(Collectors.joining(BAND_DELIMITER));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+
+            log.info("Invalidated feed pages of {} bands for store {} ({} keys)",
+                    bands.size(), storeId, keysToDelete.size());
+        } catch (Exception e) {
+            // 무효화 실패 시에도 페이지 TTL이 짧아 곧 갱신됨
+            log.warn("Failed to invalidate feed pages for store {}: {}", storeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화된 밴드의 L1 페이지 제거 (자신이 발행한 메시지 포함)
+     */
+    private void onInvalidation(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (body == null) {
+            return;
+        }
+
+        List<String> prefixes = Arrays.stream(body.toString().split(BAND_DELIMITER))
+                .filter(band -> !band.isBlank())
+                .map(band -> PAGE_KEY + band + ":")
+                .toList();
+        l1Pages.asMap().keySet().removeIf(key -> prefixes.stream().anyMatch(key::startsWith));
+    }
+
+    private String pageKey(Long poiId, int distance, Long lastReviewId) {
+        return PAGE_KEY + poiId + ":" + distance + ":"
+                + (Objects.isNull(lastReviewId) ? FIRST_PAGE : lastReviewId);
+    }
+
+    private String indexKey(Long poiId, int distance) {
+        return INDEX_KEY + poiId + ":" + distance;
+    }
+}
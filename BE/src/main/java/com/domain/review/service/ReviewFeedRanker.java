@@ -0,0 +1,136 @@
+package com.domain.review.service;
+
+import com.global.constants.SearchDistance;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 거리/최신성/스크랩 수를 함께 반영한 피드 순위 계산 (Spring 의존성 없음)
+ * - 점수 = 최신성 감쇠(반감기) x 거리 밴드 가중치 x 스크랩 가산
+ * - 후보를 한 번 훑으며 크기 limit + 1의 최소 힙만 유지하므로 전체 후보를 정렬하지 않는다.
+ * - 점수 계산 기준 시각을 커서에 담아 다음 페이지도 같은 최신성 기준으로 계산한다.
+ *   스크랩 수는 페이지마다 현재 값으로 다시 읽으므로, 그 사이 스크랩 수가 바뀐 리뷰는 페이지 경계에서 중복되거나 빠질 수 있다.
+ */
+public class ReviewFeedRanker {
+
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+    // 거리 밴드가 한 단계 멀어질 때마다 줄어드는 가중치
+    private static final double BAND_PENALTY = 0.3;
+    private static final String CURSOR_DELIMITER = ":";
+
+    // 점수 내림차순, 같은 점수면 최신 리뷰 우선
+    private static final Comparator<Ranked> RANKING_ORDER = Comparator.comparingDouble(Ranked::score)
+            .thenComparingLong(Ranked::reviewId)
+            .reversed();
+
+    private final double recencyHalfLifeHours;
+    private final double scrapWeight;
+
+    /**
+     * @param reviewId      리뷰 ID
+     * @param distance      POI에서 가게까지 거리 (m)
+     * @param createdAt     리뷰 작성 시각 (epoch millis)
+     * @param scrapCount    스크랩 수
+     */
+    public record Candidate(long reviewId, int distance, long createdAt, long scrapCount) {
+    }
+
+    public record Ranked(long reviewId, double score) {
+    }
+
+    /**
+     * 순위 피드 커서 - 점수 계산 기준 시각, 마지막 항목의 점수와 리뷰 ID
+     */
+    public record Cursor(long rankedAt, double score, long reviewId) {
+
+        public String encode() {
+            String raw = rankedAt + CURSOR_DELIMITER + score + CURSOR_DELIMITER + reviewId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @throws IllegalArgumentException 형식이 잘못된 커서
+         */
+        public static Cursor decode(String value) {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split(CURSOR_DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed ranked feed cursor");
+            }
+            return new Cursor(Long.parseLong(parts[0]), Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+        }
+
+        boolean isAfter(Ranked ranked) {
+            return ranked.score() < score || (ranked.score() == score && ranked.reviewId() < reviewId);
+        }
+    }
+
+    /**
+     * @param nextCursor 다음 페이지가 없으면 null
+     */
+    public record Page(List<Ranked> items, boolean hasNext, Cursor nextCursor) {
+    }
+
+    public ReviewFeedRanker(double recencyHalfLifeHours, double scrapWeight) {
+        if (recencyHalfLifeHours <= 0) {
+            throw new IllegalArgumentException("recencyHalfLifeHours must be positive");
+        }
+        this.recencyHalfLifeHours = recencyHalfLifeHours;
+        this.scrapWeight = scrapWeight;
+    }
+
+    public double score(Candidate candidate, long rankedAt) {
+        double ageHours = Math.max(0, rankedAt - candidate.createdAt()) / MILLIS_PER_HOUR;
+        double recency = Math.pow(0.5, ageHours / recencyHalfLifeHours);
+        double distanceWeight = 1.0 / (1.0 + BAND_PENALTY * bandIndex(candidate.distance()));
+        double scrapBoost = 1.0 + scrapWeight * Math.log1p(candidate.scrapCount());
+        return recency * distanceWeight * scrapBoost;
+    }
+
+    /**
+     * 커서 이후 상위 limit개 (커서가 없으면 rankedAt 기준 첫 페이지)
+     */
+    public Page rank(Iterable<Candidate> candidates, long rankedAt, Cursor after, int limit) {
+        // 힙의 루트가 현재 상위 limit + 1개 중 가장 낮은 순위
+        PriorityQueue<Ranked> top = new PriorityQueue<>(limit + 2, RANKING_ORDER.reversed());
+        for (Candidate candidate : candidates) {
+            Ranked ranked = new Ranked(candidate.reviewId(), score(candidate, rankedAt));
+            if (after != null && !after.isAfter(ranked)) {
+                continue;
+            }
+
+            top.offer(ranked);
+            if (top.size() > limit + 1) {
+                top.poll();
+            }
+        }
+
+        List<Ranked> items = new ArrayList<>(top);
+        items.sort(RANKING_ORDER);
+        boolean hasNext = items.size() > limit;
+        if (hasNext) {
+            items = items.subList(0, limit);
+        }
+
+        Cursor nextCursor = null;
+        if (hasNext) {
+            Ranked last = items.getLast();
+            nextCursor = new Cursor(rankedAt, last.score(), last.reviewId());
+        }
+        return new Page(List.copyOf(items), hasNext, nextCursor);
+    }
+
+    private int bandIndex(int distance) {
+        SearchDistance[] bands = SearchDistance.values();
+        for (int i = 0; i < bands.length; i++) {
+            if (distance <= bands[i].getMeters()) {
+                return i;
+            }
+        }
+        return bands.length;
+    }
+}
@@ -0,0 +1,103 @@
+package com.domain.review.service;
+
+import com.domain.review.repository.ReviewRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기존 리뷰의 H3 인덱스 채우기
+ * - 컬럼 추가 이전에 작성된 리뷰에 가게의 H3 인덱스를 id 구간 단위로 복사한다 (짧은 트랜잭션 반복).
+ * - 조건부 UPDATE라 여러 노드가 동시에 실행해도 결과가 같고, 채울 리뷰가 없으면 바로 끝난다.
+ * - 채우기가 끝나기 전에는 셀이 비어 있는 리뷰가 영역 조회에 보이지 않으므로, 완료 여부를 노출해 피드가 가게 ID 조회를 쓰게 한다.
+ * - 실패하면 완료될 때까지 주기적으로 다시 실행하며, 남은 리뷰의 가장 작은 id부터 이어서 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewH3BackfillService {
+
+    private final ReviewRepository reviewRepository;
+    private final MeterRegistry meterRegistry;
+
+    private static final long BATCH_SIZE = 1000;
+
+    private volatile boolean completed;
+    // 시작 시 실행과 재시도가 겹치지 않도록
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("review.h3.backfill.completed", this, service -> service.completed ? 1 : 0)
+                .description("리뷰 H3 인덱스 채우기 완료 여부 (0이면 피드가 가게 ID 조회 사용)")
+                .register(meterRegistry);
+        Gauge.builder("review.h3.backfill.failures", failures, AtomicInteger::get)
+                .description("리뷰 H3 인덱스 채우기 연속 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        run();
+    }
+
+    @Scheduled(initialDelay = 300000, fixedDelay = 300000) // 5분
+    public void retryBackfill() {
+        if (completed) {
+            return;
+        }
+        log.info("Retrying review H3 backfill (previous failures: {})", failures.get());
+        run();
+    }
+
+    /**
+     * 모든 리뷰의 H3 인덱스가 채워졌는지 (false면 영역 조회 결과가 불완전할 수 있음)
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Long minId = reviewRepository.findMinIdWithoutH3Index();
+            Long maxId = reviewRepository.findMaxId();
+            if (minId == null || maxId == null) {
+                markCompleted();
+                return;
+            }
+
+            long updated = 0;
+            for (long fromId = minId - 1; fromId < maxId; fromId += BATCH_SIZE) {
+                updated += reviewRepository.copyStoreH3Indexes(fromId, Math.min(fromId + BATCH_SIZE, maxId));
+            }
+            // 이후 작성된 리뷰는 생성 시 가게 셀이 복사되므로 maxId까지 채우면 완료
+            markCompleted();
+            log.info("Backfilled H3 indexes of {} reviews (id {} ~ {})", updated, minId, maxId);
+        } catch (Exception e) {
+            log.error("Failed to backfill review H3 indexes (failures: {}), feed keeps using store id queries: {}",
+                    failures.incrementAndGet(), e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void markCompleted() {
+        completed = true;
+        failures.set(0);
+    }
+}
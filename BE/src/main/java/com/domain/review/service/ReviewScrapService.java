@@ -1,12 +1,12 @@
 package com.domain.review.service;
 
+import com.domain.review.dto.response.MyScrapResponse;
 import com.domain.review.dto.response.ReviewScrapResult;
-import com.domain.review.entity.Review;
-import java.util.List;
+import com.global.dto.response.CursorPageResponse;
 
 public interface ReviewScrapService {
     ReviewScrapResult toggleScrap(Long reviewId, String eaterEmail);
 
-    List<Review> getScrapReviews(String email);
+    CursorPageResponse<MyScrapResponse> getScrapReviews(String email, Long lastReviewId, int pageSize);
 
 }
@@ -0,0 +1,354 @@
+package com.domain.review.service;
+
+import com.domain.review.repository.ReviewScrapRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리뷰 스크랩 상태 (Redis)
+ * - 리뷰별 스크랩 사용자 집합을 Redis set으로 두고, 토글과 스크랩 수 계산을 Lua 스크립트 한 번으로 처리한다.
+ * - 토글 결과는 리뷰별 대기 해시에 (사용자 → 마지막 동작)으로 모아 두고, write-behind 플러시가 DB에 반영한다.
+ * - 집합이 없으면 DB에서 적재한 뒤 아직 반영되지 않은 대기 동작을 덮어써 최신 상태를 만든다.
+ * - 꺼낸 동작은 배치별 처리 중 해시로 옮겨 두고 DB 커밋 후에 지우므로, 반영 전에 중단되어도 다시 대기열로 돌아간다.
+ */
+@Slf4j
+@Service
+public class ReviewScrapStateService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ReviewScrapRepository reviewScrapRepository;
+
+    public ReviewScrapStateService(
+            @Qualifier("redisStreamTemplate") RedisTemplate<String, String> redisTemplate,
+            ReviewScrapRepository reviewScrapRepository) {
+        this.redisTemplate = redisTemplate;
+        this.reviewScrapRepository = reviewScrapRepository;
+    }
+
+    // 스크랩 사용자 집합 - review:scrap:members:12 (set, member=사용자 ID, 적재 표시 멤버 "0" 포함)
+    private static final String MEMBERS_KEY = "review:scrap:members:";
+    // DB 미반영 동작 - review:scrap:pending:12 (hash, field=사용자 ID, value="1:epochMillis" 스크랩 / "0:epochMillis" 취소)
+    private static final String PENDING_KEY = "review:scrap:pending:";
+    // 미반영 동작이 있는 리뷰 ID (set)
+    private static final String DIRTY_KEY = "review:scrap:dirty";
+    // 최근 토글된 리뷰 (sorted set, score=마지막 토글 시각) - 정합성 점검 대상
+    private static final String ACTIVE_KEY = "review:scrap:active";
+    // 처리 중인 배치 - review:scrap:processing:{batchId} (hash, field="리뷰 ID:사용자 ID", value=대기 동작과 같은 형식)
+    private static final String PROCESSING_KEY = "review:scrap:processing:";
+    // 처리 중인 배치 ID (sorted set, score=꺼낸 시각) - 중단된 배치 복구 대상
+    private static final String BATCHES_KEY = "review:scrap:batches";
+    private static final String SENTINEL_MEMBER = "0";
+    private static final String SCRAPPED = "1";
+    private static final String OP_DELIMITER = ":";
+
+    private static final Duration MEMBERS_TTL = Duration.ofDays(7);
+    private static final int HYDRATE_CHUNK_SIZE = 1000;
+
+    // 적재된 집합에서만 토글, 반환값 {스크랩 여부(1/0), 스크랩 수} (적재 전이면 {-1, 0})
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return {-1, 0}
+                end
+                local scrapped = 1
+                if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                    redis.call('SREM', KEYS[1], ARGV[1])
+                    scrapped = 0
+                else
+                    redis.call('SADD', KEYS[1], ARGV[1])
+                end
+                redis.call('HSET', KEYS[2], ARGV[1], scrapped .. ':' .. ARGV[3])
+                redis.call('SADD', KEYS[3], ARGV[2])
+                redis.call('ZADD', KEYS[4], ARGV[3], ARGV[2])
+                redis.call('EXPIRE', KEYS[1], ARGV[4])
+                return {scrapped, redis.call('SCARD', KEYS[1]) - 1}
+            """, List.class);
+
+    // DB에서 채운 임시 집합을 스크랩 집합으로 교체하고 대기 동작을 덮어씀 (이미 적재되어 있으면 임시 집합만 삭제)
+    private static final DefaultRedisScript<Long> HYDRATE_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('EXISTS', KEYS[1]) == 1 then
+                    redis.call('DEL', KEYS[2])
+                    return 0
+                end
+                redis.call('SADD', KEYS[2], ARGV[1])
+                redis.call('RENAME', KEYS[2], KEYS[1])
+                local ops = redis.call('HGETALL', KEYS[3])
+                for i = 1, #ops, 2 do
+                    if string.sub(ops[i + 1], 1, 1) == '1' then
+                        redis.call('SADD', KEYS[1], ops[i])
+                    else
+                        redis.call('SREM', KEYS[1], ops[i])
+                    end
+                end
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+                return 1
+            """, Long.class);
+
+    // 미반영 리뷰를 꺼내 대기 동작을 배치의 처리 중 해시로 옮김, 반환값은 [리뷰 ID:사용자 ID, 동작, ...]
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+                local reviewIds = redis.call('SPOP', KEYS[1], ARGV[1])
+                for _, reviewId in ipairs(reviewIds) do
+                    local pendingKey = ARGV[2] .. reviewId
+                    local ops = redis.call('HGETALL', pendingKey)
+                    for i = 1, #ops, 2 do
+                        redis.call('HSET', KEYS[2], reviewId .. ':' .. ops[i], ops[i + 1])
+                    end
+                    redis.call('DEL', pendingKey)
+                end
+                if redis.call('EXISTS', KEYS[2]) == 0 then
+                    return {}
+                end
+                redis.call('ZADD', KEYS[3], ARGV[3], ARGV[4])
+                return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    // 처리 중 배치를 대기열로 되돌림 (새 대기 동작이 있으면 유지, 적재된 집합이 있으면 현재 상태로 반영)
+    private static final DefaultRedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>("""
+                local ops = redis.call('HGETALL', KEYS[1])
+                for i = 1, #ops, 2 do
+                    local sep = string.find(ops[i], ':', 1, true)
+                    local reviewId = string.sub(ops[i], 1, sep - 1)
+                    local userId = string.sub(ops[i], sep + 1)
+                    local op = ops[i + 1]
+                    local membersKey = ARGV[3] .. reviewId
+                    if redis.call('EXISTS', membersKey) == 1 then
+                        local occurredAt = string.sub(op, string.find(op, ':', 1, true) + 1)
+                        op = redis.call('SISMEMBER', membersKey, userId) .. ':' .. occurredAt
+                    end
+                    redis.call('HSETNX', ARGV[2] .. reviewId, userId, op)
+                    redis.call('SADD', KEYS[2], reviewId)
+                end
+                redis.call('DEL', KEYS[1])
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                return #ops / 2
+            """, Long.class);
+
+    /**
+     * @param scrapped 토글 후 스크랩 여부
+     * @param count    토글 후 스크랩 수
+     */
+    public record ToggleResult(boolean scrapped, int count) {
+    }
+
+    /**
+     * DB에 반영할 스크랩 동작 (같은 리뷰/사용자의 동작은 마지막 것만 남음)
+     */
+    public record ScrapOp(Long reviewId, Long userId, boolean scrapped, long occurredAt) {
+    }
+
+    /**
+     * 처리 중 해시로 옮겨진 동작 묶음 (DB 커밋 후 ack, 실패하면 requeue)
+     */
+    public record ScrapBatch(String id, List<ScrapOp> ops) {
+    }
+
+    /**
+     * 스크랩 토글 (집합이 없으면 DB에서 적재 후 다시 시도)
+     */
+    public ToggleResult toggle(Long reviewId, Long userId) {
+        ToggleResult result = executeToggle(reviewId, userId);
+        if (result != null) {
+            return result;
+        }
+
+        hydrate(reviewId);
+        result = executeToggle(reviewId, userId);
+        if (result == null) {
+            throw new IllegalStateException("Scrap members of review " + reviewId + " are not loaded");
+        }
+        return result;
+    }
+
+    /**
+     * 적재된 집합 기준 스크랩 상태 조회
+     *
+     * @return 스크랩 여부와 스크랩 수, 집합이 적재되어 있지 않으면 null (호출 측이 DB 값 사용)
+     */
+    public ToggleResult findState(Long reviewId, Long userId) {
+        try {
+            String key = membersKey(reviewId);
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForSet().size(key);
+                    ops.opsForSet().isMember(key, String.valueOf(userId));
+                    return null;
+                }
+            });
+
+            if (!(results.get(0) instanceof Number size) || size.longValue() == 0) {
+                return null;
+            }
+            return new ToggleResult(Boolean.TRUE.equals(results.get(1)), size.intValue() - 1);
+        } catch (Exception e) {
+            log.warn("Failed to read scrap state of review {}: {}", reviewId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 미반영 동작이 있는 리뷰를 최대 batchSize개 꺼내 대기 동작을 처리 중 배치로 옮긴다
+     *
+     * @return 꺼낸 배치, 반영할 동작이 없으면 null
+     */
+    public ScrapBatch drain(int batchSize) {
+        String batchId = UUID.randomUUID().toString();
+        List<?> drained = redisTemplate.execute(DRAIN_SCRIPT,
+                List.of(DIRTY_KEY, PROCESSING_KEY + batchId, BATCHES_KEY),
+                String.valueOf(batchSize), PENDING_KEY, String.valueOf(System.currentTimeMillis()), batchId);
+        if (drained == null || drained.isEmpty()) {
+            return null;
+        }
+
+        List<ScrapOp> ops = new ArrayList<>();
+        for (int i = 0; i < drained.size(); i += 2) {
+            String[] target = drained.get(i).toString().split(OP_DELIMITER);
+            String[] op = drained.get(i + 1).toString().split(OP_DELIMITER);
+            ops.add(new ScrapOp(Long.valueOf(target[0]), Long.valueOf(target[1]),
+                    SCRAPPED.equals(op[0]), Long.parseLong(op[1])));
+        }
+        return new ScrapBatch(batchId, ops);
+    }
+
+    /**
+     * DB 반영이 커밋된 배치 정리
+     */
+    public void ack(String batchId) {
+        redisTemplate.delete(PROCESSING_KEY + batchId);
+        redisTemplate.opsForZSet().remove(BATCHES_KEY, batchId);
+    }
+
+    /**
+     * DB 반영에 실패한 배치를 대기열로 되돌림 (그 사이 새로 토글된 동작이 있으면 새 동작 유지)
+     */
+    public void requeue(String batchId) {
+        redisTemplate.execute(REQUEUE_SCRIPT, List.of(PROCESSING_KEY + batchId, DIRTY_KEY, BATCHES_KEY),
+                batchId, PENDING_KEY, MEMBERS_KEY);
+    }
+
+    /**
+     * olderThan 이전에 꺼낸 뒤 정리되지 않은 배치(반영 도중 중단된 노드의 배치)를 대기열로 되돌림
+     *
+     * @return 되돌린 배치 수
+     */
+    public int requeueStaleBatches(long olderThan) {
+        Set<String> batchIds = redisTemplate.opsForZSet().rangeByScore(BATCHES_KEY, 0, olderThan);
+        if (batchIds == null) {
+            return 0;
+        }
+        batchIds.forEach(this::requeue);
+        return batchIds.size();
+    }
+
+    /**
+     * 최근 토글된 리뷰 중 DB에 반영이 끝난(대기 중이거나 처리 중인 동작이 없는) 리뷰 ID (since 이전 기록은 정리)
+     */
+    public List<Long> findSettledActiveReviews(long since) {
+        redisTemplate.opsForZSet().removeRangeByScore(ACTIVE_KEY, 0, since - 1);
+        Set<String> active = redisTemplate.opsForZSet().range(ACTIVE_KEY, 0, -1);
+        if (active == null || active.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> unsettled = new HashSet<>();
+        Set<String> dirty = redisTemplate.opsForSet().members(DIRTY_KEY);
+        if (dirty != null) {
+            unsettled.addAll(dirty);
+        }
+        Set<String> batchIds = redisTemplate.opsForZSet().range(BATCHES_KEY, 0, -1);
+        if (batchIds != null) {
+            for (String batchId : batchIds) {
+                redisTemplate.opsForHash().keys(PROCESSING_KEY + batchId).forEach(target ->
+                        unsettled.add(target.toString().split(OP_DELIMITER)[0]));
+            }
+        }
+
+        return active.stream()
+                .filter(reviewId -> !unsettled.contains(reviewId))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 적재된 집합의 스크랩 수 (적재 표시 멤버 제외, 없으면 null)
+     */
+    public Integer findLoadedCount(Long reviewId) {
+        Long size = redisTemplate.opsForSet().size(membersKey(reviewId));
+        return size == null || size == 0 ? null : (int) (size - 1);
+    }
+
+    /**
+     * 스크랩 집합 제거 (다음 토글 때 DB에서 다시 적재)
+     */
+    public void evict(Long reviewId) {
+        redisTemplate.delete(membersKey(reviewId));
+    }
+
+    /**
+     * 삭제된 리뷰의 스크랩 상태 정리
+     */
+    public void remove(Long reviewId) {
+        redisTemplate.delete(List.of(membersKey(reviewId), PENDING_KEY + reviewId));
+        redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(reviewId));
+        redisTemplate.opsForZSet().remove(ACTIVE_KEY, String.valueOf(reviewId));
+    }
+
+    private ToggleResult executeToggle(Long reviewId, Long userId) {
+        List<?> result = redisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(membersKey(reviewId), PENDING_KEY + reviewId, DIRTY_KEY, ACTIVE_KEY),
+                String.valueOf(userId), String.valueOf(reviewId), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(MEMBERS_TTL.toSeconds()));
+
+        long scrapped = ((Number) result.get(0)).longValue();
+        if (scrapped < 0) {
+            return null;
+        }
+        return new ToggleResult(scrapped == 1, ((Number) result.get(1)).intValue());
+    }
+
+    /**
+     * DB의 스크랩 사용자를 임시 집합에 나눠 담은 뒤 스크립트로 한 번에 교체
+     */
+    private void hydrate(Long reviewId) {
+        String loadingKey = membersKey(reviewId) + ":loading:" + UUID.randomUUID();
+        List<String> userIds = reviewScrapRepository.findUserIdsByReviewId(reviewId).stream()
+                .map(String::valueOf)
+                .toList();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int from = 0; from < userIds.size(); from += HYDRATE_CHUNK_SIZE) {
+                    List<String> chunk = userIds.subList(from, Math.min(from + HYDRATE_CHUNK_SIZE, userIds.size()));
+                    ops.opsForSet().add(loadingKey, chunk.toArray(String[]::new));
+                }
+                ops.expire(loadingKey, Duration.ofMinutes(1));
+                return null;
+            }
+        });
+
+        redisTemplate.execute(HYDRATE_SCRIPT, List.of(membersKey(reviewId), loadingKey, PENDING_KEY + reviewId),
+                SENTINEL_MEMBER, String.valueOf(MEMBERS_TTL.toSeconds()));
+        log.debug("Loaded {} scrap members of review {}", userIds.size(), reviewId);
+    }
+
+    private String membersKey(Long reviewId) {
+        return MEMBERS_KEY + reviewId;
+    }
+}
@@ -0,0 +1,169 @@
+package com.domain.review.service;
+
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.event.ReviewScrapPersistedEvent;
+import com.domain.review.repository.ReviewRepository;
+import com.domain.review.repository.ReviewScrapRepository;
+import com.domain.review.service.ReviewScrapStateService.ScrapBatch;
+import com.domain.review.service.ReviewScrapStateService.ScrapOp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스크랩 write-behind 반영과 정합성 복구
+ * - Redis에 모인 스크랩 동작을 주기적으로 꺼내 한 트랜잭션에서 DB에 반영한다.
+ *   (INSERT IGNORE / DELETE / 스크랩 수 재계산이라 같은 동작을 여러 번 반영해도 결과가 같다)
+ * - 반영에 실패한 동작은 Redis로 되돌려 다음 주기에 다시 시도한다.
+ * - 반영 도중 중단된 노드의 배치는 일정 시간이 지나면 대기열로 되돌린다 (기동 직후 첫 실행 포함).
+ * - 하루 한 번 DB 스크랩 수와 Redis 집합을 실제 스크랩 행 기준으로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewScrapWriteBehindService {
+
+    private final ReviewScrapStateService scrapStateService;
+    private final ReviewScrapRepository reviewScrapRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 정합성 복구 잠금 - 여러 노드 중 한 곳에서만 실행
+    private static final String RECONCILE_LOCK_KEY = "review:scrap:reconcile:lock";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(30);
+    private static final int FLUSH_BATCH_SIZE = 200;
+    private static final long RECONCILE_BATCH_SIZE = 1000;
+    // 스크랩 집합 TTL과 같은 기간의 토글 기록만 점검
+    private static final Duration ACTIVE_WINDOW = Duration.ofDays(7);
+    // 꺼낸 뒤 이 시간이 지나도 정리되지 않은 배치는 중단된 것으로 보고 되돌림
+    private static final Duration STALE_BATCH_TIMEOUT = Duration.ofMinutes(2);
+
+    /**
+     * 대기 중인 스크랩 동작을 DB에 반영 (리뷰 FLUSH_BATCH_SIZE개 단위)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        ScrapBatch batch;
+        try {
+            batch = scrapStateService.drain(FLUSH_BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("Failed to drain pending scraps: {}", e.getMessage());
+            return;
+        }
+        if (batch == null) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch.ops()));
+            log.debug("Flushed {} scrap operations", batch.ops().size());
+        } catch (Exception e) {
+            log.warn("Failed to flush {} scrap operations, requeueing: {}", batch.ops().size(), e.getMessage());
+            scrapStateService.requeue(batch.id());
+            return;
+        }
+
+        try {
+            scrapStateService.ack(batch.id());
+        } catch (Exception e) {
+            // 정리되지 않은 배치는 복구 주기에 다시 반영됨 (반영은 멱등)
+            log.warn("Failed to ack scrap batch {}: {}", batch.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * 반영 도중 중단되어 남은 처리 중 배치를 대기열로 되돌림
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void requeueStaleBatches() {
+        try {
+            long olderThan = System.currentTimeMillis() - STALE_BATCH_TIMEOUT.toMillis();
+            int requeued = scrapStateService.requeueStaleBatches(olderThan);
+            if (requeued > 0) {
+                log.warn("Requeued {} interrupted scrap batches", requeued);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to requeue interrupted scrap batches: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 스크랩 수를 실제 스크랩 행 수로 맞추고, 어긋난 Redis 집합은 제거해 다음 토글 때 다시 적재
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(RECONCILE_LOCK_KEY, System.currentTimeMillis(), RECONCILE_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            long corrected = 0;
+            Long maxId = reviewRepository.findMaxId();
+            for (long fromId = 0; maxId != null && fromId < maxId; fromId += RECONCILE_BATCH_SIZE) {
+                long toId = Math.min(fromId + RECONCILE_BATCH_SIZE, maxId);
+                corrected += reviewRepository.reconcileScrapCounts(fromId, toId);
+            }
+
+            long evicted = 0;
+            long since = System.currentTimeMillis() - ACTIVE_WINDOW.toMillis();
+            for (Long reviewId : scrapStateService.findSettledActiveReviews(since)) {
+                Integer loaded = scrapStateService.findLoadedCount(reviewId);
+                Integer persisted = reviewRepository.findScrapCountById(reviewId).orElse(null);
+                if (loaded != null && !Objects.equals(loaded, persisted)) {
+                    scrapStateService.evict(reviewId);
+                    evicted++;
+                }
+            }
+            log.info("Reconciled scraps: {} review counts corrected, {} Redis sets evicted", corrected, evicted);
+        } catch (Exception e) {
+            log.error("Failed to reconcile scraps: {}", e.getMessage());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        try {
+            scrapStateService.remove(event.reviewId());
+        } catch (Exception e) {
+            log.warn("Failed to remove scrap state of review {}: {}", event.reviewId(), e.getMessage());
+        }
+    }
+
+    private void persist(List<ScrapOp> ops) {
+        for (ScrapOp op : ops) {
+            // 삭제된 리뷰/사용자의 외래 키 오류도 무시됨
+            int affected = op.scrapped()
+                    ? reviewScrapRepository.insertIgnore(op.userId(), op.reviewId(), toDateTime(op.occurredAt()))
+                    : reviewScrapRepository.deleteByUserIdAndReviewId(op.userId(), op.reviewId());
+
+            // 실제로 바뀐 행만 통계에 반영 (커밋 후 처리)
+            if (affected > 0) {
+                eventPublisher.publishEvent(new ReviewScrapPersistedEvent(op.reviewId(), op.userId(), op.scrapped()));
+            }
+        }
+
+        reviewRepository.recountScrapCounts(ops.stream().map(ScrapOp::reviewId).distinct().toList());
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
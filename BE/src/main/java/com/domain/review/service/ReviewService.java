@@ -5,15 +5,16 @@ import com.domain.review.dto.request.ReviewAssetCallbackRequest;
 import com.domain.review.dto.request.ReviewAssetCreateRequest;
 import com.domain.review.dto.request.ReviewFinalizeRequest;
 import com.domain.review.dto.request.ReviewLocationRequest;
+import com.domain.review.dto.response.MyReceivedResponse;
 import com.domain.review.dto.response.MyReviewResponse;
+import com.domain.review.dto.response.RankedReviewFeedResult;
 import com.domain.review.dto.response.ReviewAssetRequestResponse;
 import com.domain.review.dto.response.ReviewAssetResultResponse;
 import com.domain.review.dto.response.ReviewDetailResponse;
 import com.domain.review.dto.response.ReviewFeedResponse;
 import com.domain.review.dto.response.ReviewFeedResult;
 import com.domain.review.dto.response.ReviewFinalizeResponse;
-import com.domain.review.entity.Review;
-import java.util.List;
+import com.global.dto.response.CursorPageResponse;
 
 public interface ReviewService {
 
@@ -40,13 +41,19 @@ public interface ReviewService {
     ReviewFeedResult<ReviewFeedResponse> getReviewFeed(ReviewLocationRequest request, Integer distance,
                                                        Long lastReviewId, String email);
 
+    /**
+     * 거리/최신성/스크랩 수를 함께 반영한 순위 피드 (커서 기반)
+     */
+    RankedReviewFeedResult getRankedReviewFeed(ReviewLocationRequest request, Integer distance, String cursor,
+                                               String email);
+
     ReviewDetailResponse getReviewDetail(Long reviewId, String email);
 
     ReviewFeedResult<MyReviewResponse> getMyReviews(Long lastReviewId, int pageSize, String eaterEmail);
 
     void removeReview(Long reviewId, String eaterEmail);
 
-    List<Review> getMyReceivedReviews(String email);
+    CursorPageResponse<MyReceivedResponse> getMyReceivedReviews(String email, Long lastReviewId, int pageSize);
 
-    List<Review> getReviews(Long storeId);
+    CursorPageResponse<MyReceivedResponse> getReviews(Long storeId, Long lastReviewId, int pageSize);
 }
@@ -0,0 +1,39 @@
+package com.domain.review.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가게별 리뷰 타임라인 k-way 병합 (Spring 의존성 없음)
+ * - 각 타임라인은 리뷰 ID 내림차순(최신순)으로 정렬되어 있어야 한다.
+ * - 힙에는 타임라인마다 다음 후보 하나만 올리므로 O(limit * log k)로 상위 limit개를 고른다.
+ */
+public final class ReviewTimelineMerger {
+
+    private ReviewTimelineMerger() {
+    }
+
+    public static List<Long> mergeLatest(List<List<Long>> timelines, int limit) {
+        // {타임라인 번호, 타임라인 내 위치}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, timelines.size()),
+                (a, b) -> Long.compare(timelines.get(b[0]).get(b[1]), timelines.get(a[0]).get(a[1])));
+        for (int i = 0; i < timelines.size(); i++) {
+            if (!timelines.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+
+        List<Long> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<Long> timeline = timelines.get(head[0]);
+            merged.add(timeline.get(head[1]));
+
+            if (head[1] + 1 < timeline.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+}
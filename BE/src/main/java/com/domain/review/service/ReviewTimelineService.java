@@ -0,0 +1,345 @@
+package com.domain.review.service;
+
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.event.ReviewFinalizedEvent;
+import com.domain.review.repository.ReviewRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가게별 리뷰 타임라인 (fan-in 피드)
+ * - 가게마다 최신 SUCCESS 리뷰 ID를 Redis sorted set에 최대 TIMELINE_CAPACITY개 보관한다.
+ * - 근처 피드는 주변 가게들의 타임라인을 파이프라인으로 읽어 k-way 병합하므로 리뷰 테이블 크기와 무관하다.
+ * - 잘린 타임라인 때문에 정확한 페이지를 만들 수 없으면 null을 반환해 호출 측이 DB로 조회하게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewTimelineService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ReviewRepository reviewRepository;
+
+    // 가게별 리뷰 타임라인 - review:timeline:store:12 (sorted set, member=score=SUCCESS 리뷰 ID)
+    private static final String TIMELINE_KEY = "review:timeline:store:";
+    // 적재 표시 멤버 - score가 0이면 가게의 모든 리뷰를 담고 있고, 0보다 크면 그 ID보다 오래된 리뷰는 잘려 있음
+    private static final long SENTINEL_MEMBER = 0L;
+    private static final int TIMELINE_CAPACITY = 200;
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    // 적재 중 변경 버퍼 - review:timeline:pending:12 (hash, field=리뷰 ID, value=add/remove)
+    // 적재가 DB를 읽은 뒤 타임라인을 쓰기 전까지 확정/삭제된 리뷰를 모아 두었다가 적재 시 함께 반영
+    private static final String PENDING_KEY = "review:timeline:pending:";
+    // 적재 중임을 나타내는 필드 (적재가 중간에 실패해도 TTL 후 사라짐)
+    private static final String PENDING_MARKER_FIELD = "loading";
+    private static final Duration PENDING_TTL = Duration.ofMinutes(1);
+
+    // 적재된 타임라인에만 추가, 용량을 넘으면 오래된 리뷰를 잘라내고 적재 표시 score를 남은 최솟값으로 올림
+    // (적재 표시 멤버 "0"은 같은 score에서도 사전순으로 앞서므로 항상 rank 0)
+    // 타임라인이 없지만 적재 중이면 버퍼에 기록해 적재 시 반영되게 함
+    // 리뷰 ID는 요청 시점에 발급되므로 늦게 확정된 리뷰는 잘린 지점 이하일 수 있음 - 잘린 구간에 속하므로 추가하지 않음
+    // (추가하면 적재 표시 멤버보다 앞 rank가 되어 잘라낼 때 적재 표시가 지워짐)
+    private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    if redis.call('EXISTS', KEYS[2]) == 1 then
+                        redis.call('HSET', KEYS[2], ARGV[1], 'add')
+                        return 2
+                    end
+                    return 0
+                end
+                local floor = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[3]) or '0')
+                if floor > 0 and tonumber(ARGV[1]) <= floor then
+                    return 0
+                end
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1])
+                local overflow = redis.call('ZCARD', KEYS[1]) - 1 - tonumber(ARGV[2])
+                if overflow > 0 then
+                    redis.call('ZREMRANGEBYRANK', KEYS[1], 1, overflow)
+                    local oldest = redis.call('ZRANGE', KEYS[1], 1, 1, 'WITHSCORES')
+                    redis.call('ZADD', KEYS[1], oldest[2], ARGV[3])
+                end
+                redis.call('EXPIRE', KEYS[1], ARGV[4])
+                return 1
+            """, Long.class);
+
+    // 적재된 타임라인에서 제거, 적재 중이면 버퍼에 기록
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+                if redis.call('EXISTS', KEYS[1]) == 1 then
+                    return redis.call('ZREM', KEYS[1], ARGV[1])
+                end
+                if redis.call('EXISTS', KEYS[2]) == 1 then
+                    redis.call('HSET', KEYS[2], ARGV[1], 'remove')
+                    return 2
+                end
+                return 0
+            """, Long.class);
+
+    // DB에서 읽은 타임라인과 적재 중 버퍼를 한 번에 기록 (KEYS = 가게별 타임라인, 버퍼 쌍)
+    // ARGV = 용량, 적재 표시 멤버, TTL 다음에 가게별로 floor, 리뷰 수, 리뷰 ID들
+    // 이미 다른 요청이 적재한 타임라인은 덮어쓰지 않음 (그 사이 변경은 타임라인에 직접 반영됨)
+    private static final DefaultRedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>("""
+                local capacity = tonumber(ARGV[1])
+                local cursor = 4
+                for k = 1, #KEYS, 2 do
+                    local timeline, pending = KEYS[k], KEYS[k + 1]
+                    local floor, count = ARGV[cursor], tonumber(ARGV[cursor + 1])
+                    cursor = cursor + 2
+                    if redis.call('EXISTS', timeline) == 0 then
+                        redis.call('ZADD', timeline, floor, ARGV[2])
+                        for i = cursor, cursor + count - 1 do
+                            redis.call('ZADD', timeline, ARGV[i], ARGV[i])
+                        end
+                        local changes = redis.call('HGETALL', pending)
+                        local floorScore = tonumber(floor)
+                        for i = 1, #changes, 2 do
+                            if changes[i + 1] == 'add'
+                                    and (floorScore == 0 or tonumber(changes[i]) > floorScore) then
+                                redis.call('ZADD', timeline, changes[i], changes[i])
+                            elseif changes[i + 1] == 'remove' then
+                                redis.call('ZREM', timeline, changes[i])
+                            end
+                        end
+                        local overflow = redis.call('ZCARD', timeline) - 1 - capacity
+                        if overflow > 0 then
+                            redis.call('ZREMRANGEBYRANK', timeline, 1, overflow)
+                            local oldest = redis.call('ZRANGE', timeline, 1, 1, 'WITHSCORES')
+                            redis.call('ZADD', timeline, oldest[2], ARGV[2])
+                        end
+                        redis.call('EXPIRE', timeline, ARGV[3])
+                    end
+                    redis.call('DEL', pending)
+                    cursor = cursor + count
+                end
+                return 1
+            """, Long.class);
+
+    /**
+     * 가게 타임라인의 조회 구간
+     *
+     * @param reviewIds 커서 이전의 리뷰 ID (최신순)
+     * @param floor     이 ID보다 오래된 리뷰는 타임라인에 없음 (0이면 전부 포함)
+     */
+    private record TimelineSlice(List<Long> reviewIds, long floor) {
+    }
+
+    /**
+     * 주변 가게들의 최신 리뷰 ID (커서 이전, 최신순)
+     *
+     * @return 최대 limit개의 리뷰 ID, 타임라인만으로 정확한 결과를 만들 수 없으면 null
+     */
+    public List<Long> findLatestReviewIds(List<Long> storeIds, Long lastReviewId, int limit) {
+        try {
+            double max = lastReviewId == null ? Double.POSITIVE_INFINITY : lastReviewId - 1;
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (Long storeId : storeIds) {
+                        String key = timelineKey(storeId);
+                        ops.opsForZSet().score(key, SENTINEL_MEMBER);
+                        // 적재 표시 멤버가 섞일 수 있으므로 하나 더 조회
+                        ops.opsForZSet().reverseRangeByScore(key, 1, max, 0, limit + 1L);
+                    }
+                    return null;
+                }
+            });
+
+            List<TimelineSlice> slices = new ArrayList<>(storeIds.size());
+            List<Long> missingStoreIds = new ArrayList<>();
+            for (int i = 0; i < storeIds.size(); i++) {
+                Object floor = results.get(i * 2);
+                if (!(floor instanceof Number number)) {
+                    missingStoreIds.add(storeIds.get(i));
+                    continue;
+                }
+                slices.add(new TimelineSlice(toReviewIds(results.get(i * 2 + 1), limit), number.longValue()));
+            }
+
+            if (!missingStoreIds.isEmpty()) {
+                slices.addAll(backfill(missingStoreIds, lastReviewId, limit));
+            }
+
+            List<Long> merged = ReviewTimelineMerger.mergeLatest(
+                    slices.stream().map(TimelineSlice::reviewIds).toList(), limit);
+            return isComplete(slices, merged, limit) ? merged : null;
+        } catch (Exception e) {
+            log.warn("Failed to read review timelines for {} stores: {}", storeIds.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFinalized(ReviewFinalizedEvent event) {
+        try {
+            redisTemplate.execute(APPEND_SCRIPT,
+                    List.of(timelineKey(event.storeId()), pendingKey(event.storeId())), event.reviewId(),
+                    TIMELINE_CAPACITY, SENTINEL_MEMBER, TIMELINE_TTL.toSeconds());
+        } catch (Exception e) {
+            // 다음 적재 시 DB에서 다시 채워지도록 타임라인 제거
+            log.warn("Failed to append review {} to timeline of store {}: {}",
+                    event.reviewId(), event.storeId(), e.getMessage());
+            deleteTimeline(event.storeId());
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        try {
+            redisTemplate.execute(REMOVE_SCRIPT,
+                    List.of(timelineKey(event.storeId()), pendingKey(event.storeId())), event.reviewId());
+        } catch (Exception e) {
+            log.warn("Failed to remove review {} from timeline of store {}: {}",
+                    event.reviewId(), event.storeId(), e.getMessage());
+            deleteTimeline(event.storeId());
+        }
+    }
+
+    /**
+     * 잘린 타임라인이 병합 결과 범위에 걸리지 않는지 확인
+     * - 가게의 조회 결과가 limit개 미만이면서 병합 결과의 가장 오래된 ID가 잘린 지점보다 작으면,
+     *   잘려 나간 리뷰가 결과에 들어가야 했을 수 있다.
+     */
+    private boolean isComplete(List<TimelineSlice> slices, List<Long> merged, int limit) {
+        long oldest = merged.size() < limit ? 0 : merged.getLast();
+        for (TimelineSlice slice : slices) {
+            if (slice.floor() > 0 && slice.reviewIds().size() < limit && oldest < slice.floor()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 타임라인이 없는 가게들을 DB에서 적재하고 커서 이전 구간을 반환
+     * - DB를 읽기 전에 적재 중 표시를 남겨, 읽은 뒤 기록 전까지 확정/삭제된 리뷰가 버퍼를 거쳐 반영되게 한다.
+     */
+    private List<TimelineSlice> backfill(List<Long> storeIds, Long lastReviewId, int limit) {
+        markLoading(storeIds);
+
+        Map<Long, List<Long>> timelines = new HashMap<>();
+        storeIds.forEach(storeId -> timelines.put(storeId, new ArrayList<>()));
+
+        for (int from = 0; from < storeIds.size(); from += BACKFILL_BATCH_SIZE) {
+            List<Long> batch = storeIds.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, storeIds.size()));
+            for (Object[] row : reviewRepository.findLatestSuccessIdsByStoreIdIn(batch, TIMELINE_CAPACITY)) {
+                timelines.get(((Number) row[0]).longValue()).add(((Number) row[1]).longValue());
+            }
+        }
+
+        List<TimelineSlice> slices = new ArrayList<>(storeIds.size());
+        timelines.forEach((storeId, reviewIds) -> {
+            reviewIds.sort((a, b) -> Long.compare(b, a));
+            long floor = floorOf(reviewIds);
+
+            List<Long> beforeCursor = reviewIds.stream()
+                    .filter(reviewId -> lastReviewId == null || reviewId < lastReviewId)
+                    .limit(limit)
+                    .toList();
+            slices.add(new TimelineSlice(beforeCursor, floor));
+        });
+
+        try {
+            for (int from = 0; from < storeIds.size(); from += BACKFILL_BATCH_SIZE) {
+                storeTimelines(storeIds.subList(from, Math.min(from + BACKFILL_BATCH_SIZE, storeIds.size())),
+                        timelines);
+            }
+            log.debug("Backfilled review timelines of {} stores", storeIds.size());
+        } catch (Exception e) {
+            log.warn("Failed to store backfilled review timelines: {}", e.getMessage());
+        }
+        return slices;
+    }
+
+    /**
+     * 적재 중 표시 - 이후 확정/삭제 이벤트는 타임라인이 없어도 버퍼에 기록된다.
+     */
+    private void markLoading(List<Long> storeIds) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (Long storeId : storeIds) {
+                        ops.opsForHash().put(pendingKey(storeId), PENDING_MARKER_FIELD, true);
+                        ops.expire(pendingKey(storeId), PENDING_TTL);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to mark review timelines of {} stores as loading: {}", storeIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 읽은 타임라인(최신순)을 적재 중 버퍼와 합쳐 기록
+     */
+    private void storeTimelines(List<Long> storeIds, Map<Long, List<Long>> timelines) {
+        List<String> keys = new ArrayList<>(storeIds.size() * 2);
+        List<Object> args = new ArrayList<>(List.of(TIMELINE_CAPACITY, SENTINEL_MEMBER, TIMELINE_TTL.toSeconds()));
+        for (Long storeId : storeIds) {
+            List<Long> reviewIds = timelines.get(storeId);
+            keys.add(timelineKey(storeId));
+            keys.add(pendingKey(storeId));
+            args.add(floorOf(reviewIds));
+            args.add(reviewIds.size());
+            args.addAll(reviewIds);
+        }
+        redisTemplate.execute(BACKFILL_SCRIPT, keys, args.toArray());
+    }
+
+    // 용량만큼 채워졌으면 가장 오래된 ID 이전은 잘려 있을 수 있음
+    private long floorOf(List<Long> reviewIds) {
+        return reviewIds.size() >= TIMELINE_CAPACITY ? reviewIds.getLast() : 0;
+    }
+
+    private List<Long> toReviewIds(Object members, int limit) {
+        if (!(members instanceof Set<?> set)) {
+            return List.of();
+        }
+
+        List<Long> reviewIds = new ArrayList<>(Math.min(set.size(), limit));
+        for (Object member : set) {
+            if (member instanceof Number number && number.longValue() != SENTINEL_MEMBER
+                    && reviewIds.size() < limit) {
+                reviewIds.add(number.longValue());
+            }
+        }
+        return reviewIds;
+    }
+
+    private void deleteTimeline(Long storeId) {
+        try {
+            redisTemplate.delete(timelineKey(storeId));
+        } catch (Exception e) {
+            log.warn("Failed to delete timeline of store {}: {}", storeId, e.getMessage());
+        }
+    }
+
+    private String timelineKey(Long storeId) {
+        return TIMELINE_KEY + storeId;
+    }
+
+    private String pendingKey(Long storeId) {
+        return PENDING_KEY + storeId;
+    }
+}
@@ -13,8 +13,10 @@ import com.domain.review.dto.request.ReviewAssetCallbackRequest;
 import com.domain.review.dto.request.ReviewAssetCreateRequest;
 import com.domain.review.dto.request.ReviewFinalizeRequest;
 import com.domain.review.dto.request.ReviewLocationRequest;
+import com.domain.review.dto.response.MyReceivedResponse;
 import com.domain.review.dto.response.MyReviewResponse;
 import com.domain.review.dto.response.PaginationResult;
+import com.domain.review.dto.response.RankedReviewFeedResult;
 import com.domain.review.dto.response.ReviewAssetRequestResponse;
 import com.domain.review.dto.response.ReviewAssetResultResponse;
 import com.domain.review.dto.response.ReviewDetailResponse;
@@ -25,14 +27,24 @@ import com.domain.review.dto.response.StoreDistanceResult;
 import com.domain.review.entity.Review;
 import com.domain.review.entity.ReviewAsset;
 import com.domain.review.entity.ReviewMenu;
-import com.domain.review.entity.ReviewScrap;
+import com.domain.review.event.ReviewAssetUpdatedEvent;
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.event.ReviewFinalizedEvent;
 import com.domain.review.mapper.ReviewMapper;
 import com.domain.review.publisher.ReviewAssetRedisPublisher;
 import com.domain.review.repository.ReviewAssetRepository;
 import com.domain.review.repository.ReviewMenuRepository;
 import com.domain.review.repository.ReviewRepository;
+import com.domain.review.repository.ReviewScrapRepository;
 import com.domain.review.service.ReviewAssetService;
+import com.domain.review.service.ReviewCardCacheService;
+import com.domain.review.service.ReviewFallbackFeedService;
+import com.domain.review.service.ReviewFeedCacheService;
+import com.domain.review.service.ReviewFeedRanker;
+import com.domain.review.service.ReviewH3BackfillService;
+import com.domain.review.service.ReviewScrapStateService;
 import com.domain.review.service.ReviewService;
+import com.domain.review.service.ReviewTimelineService;
 import com.domain.review.service.ReviewThumbnailService;
 import com.domain.review.validator.ReviewValidator;
 import com.domain.store.entity.Store;
@@ -44,20 +56,30 @@ import com.global.config.FileStorageProperties;
 import com.global.constants.ErrorCode;
 import com.global.constants.PagingConstants;
 import com.global.constants.Status;
+import com.global.dto.response.CursorPageResponse;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
 import com.global.filestorage.FileUrlResolver;
 import com.global.utils.AssetValidator;
 import java.net.URI;
 import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -72,11 +94,20 @@ public class ReviewServiceImpl implements ReviewService {
     private static final String IMAGE_BASE_PATH = "reviews/";
     private static final String DATA_DIR = "data";
     private static final String SHORTS_DIR = "shorts";
+    // 영역 조회 시 한 번에 훑는 리뷰 수와 최대 반복 횟수 (넘으면 가게 ID 목록으로 조회)
+    private static final int AREA_SCAN_SIZE = 100;
+    private static final int MAX_AREA_SCANS = 5;
+    // 순위 피드 - 최근 30일 리뷰 중 가게별 최신 50개까지 후보, 최신성 반감기 48시간
+    private static final long RANKING_HORIZON_DAYS = 30;
+    private static final int RANKING_CANDIDATES_PER_STORE = 50;
+    private static final double RANKING_HALF_LIFE_HOURS = 48;
+    private static final double RANKING_SCRAP_WEIGHT = 0.5;
 
     // === Repository 및 의존성 주입 ===
     private final ReviewRepository reviewRepository;
     private final ReviewAssetRepository reviewAssetRepository;
     private final ReviewMenuRepository reviewMenuRepository;
+    private final ReviewScrapRepository reviewScrapRepository;
     private final EaterRepository eaterRepository;
     private final MakerRepository makerRepository;
     private final MenuRepository menuRepository;
@@ -86,11 +117,20 @@ public class ReviewServiceImpl implements ReviewService {
     private final FileStorageService fileStorageService;
     private final SpatialSearchService spatialSearchService;
     private final ReviewAssetService reviewAssetService;
+    private final ReviewFeedCacheService reviewFeedCacheService;
+    private final ReviewTimelineService reviewTimelineService;
+    private final ReviewFallbackFeedService reviewFallbackFeedService;
+    private final ReviewScrapStateService reviewScrapStateService;
+    private final ReviewCardCacheService reviewCardCacheService;
+    private final ReviewH3BackfillService reviewH3BackfillService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final ReviewThumbnailService reviewThumbnailService;
     private final FileStorageProperties fileStorageProperties;
     private final FileUrlResolver fileUrlResolver;
 
+    private final ReviewFeedRanker feedRanker = new ReviewFeedRanker(RANKING_HALF_LIFE_HOURS, RANKING_SCRAP_WEIGHT);
+
     // @formatter:off
     /**
      * 리뷰 에셋 생성 요청 처리
@@ -135,6 +175,11 @@ public class ReviewServiceImpl implements ReviewService {
         asset.updateStatus(status);
 
         updateAssetUrlIfSuccess(request, status, asset);
+
+        // 커밋 이후 리뷰 카드 캐시 무효화
+        if (asset.getReview() != null) {
+            eventPublisher.publishEvent(new ReviewAssetUpdatedEvent(asset.getReview().getId(), asset.getId()));
+        }
     }
 
     // === 내부 헬퍼 메서드 ===
@@ -202,6 +247,9 @@ public class ReviewServiceImpl implements ReviewService {
         createReviewMenus(review, request.menuIds());
         review.updateStatus(Status.SUCCESS);
         reviewRepository.save(review);
+
+        // 커밋 이후 피드 캐시 무효화
+        eventPublisher.publishEvent(ReviewFinalizedEvent.of(review));
         return reviewMapper.toFinalizeResponse(review);
     }
 
@@ -226,16 +274,61 @@ public class ReviewServiceImpl implements ReviewService {
             return getFallbackFeed(lastReviewId);
         }
 
-        // 3. 근처 매장 조회
+        // 3. 피드 페이지 캐시 조회
+        Poi poi = poiOpt.get();
+        ReviewFeedResult<ReviewFeedResponse> cachedPage = reviewFeedCacheService.get(poi.getId(), distance,
+                lastReviewId);
+        if (cachedPage != null) {
+            return cachedPage;
+        }
+
+        // 4. 근처 매장의 리뷰 조회 및 응답 생성
+        ReviewFeedResult<ReviewFeedResponse> page = buildPoiFeed(poi, distance, lastReviewId);
+        reviewFeedCacheService.put(poi.getId(), distance, lastReviewId, page);
+        return page;
+    }
+
+    /**
+     * 순위 피드 조회 - 거리 밴드, 최신성, 스크랩 수를 합친 점수 순
+     * - 영역 내 가게별 최근 리뷰만 후보로 삼고, 전체 정렬 없이 상위 페이지만 고른다.
+     * - 근처 POI나 매장이 없으면 빈 결과 (최신순 피드는 getReviewFeed 사용)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RankedReviewFeedResult getRankedReviewFeed(final ReviewLocationRequest request, final Integer distance,
+                                                      final String cursor, final String email) {
+        // 1. 검증
+        validatedToken(email);
+        ReviewValidator.validateLocationRequest(request, distance);
+        ReviewFeedRanker.Cursor after = decodeRankingCursor(cursor);
+
+        // 2. POI 및 근처 매장 조회
+        Optional<Poi> poiOpt = findNearestPoi(request.latitude(), request.longitude());
+        if (poiOpt.isEmpty()) {
+            return RankedReviewFeedResult.empty();
+        }
         Poi poi = poiOpt.get();
         List<StoreDistanceResult> nearbyStores = getNearbyStores(poi.getId(), distance);
         if (nearbyStores.isEmpty()) {
-            log.debug("No stores found within {}m from POI: {}", distance, poi.getName());
-            return getFallbackFeed(lastReviewId);
+            return RankedReviewFeedResult.empty();
+        }
+
+        // 3. 후보를 읽는 대로 순위 계산 (다음 페이지는 첫 페이지와 같은 기준 시각으로 계산)
+        long rankedAt = after != null ? after.rankedAt() : System.currentTimeMillis();
+        ReviewFeedRanker.Page page;
+        try (Stream<ReviewFeedRanker.Candidate> candidates = streamRankingCandidates(poi, distance,
+                createStoreDistanceMap(nearbyStores), rankedAt)) {
+            page = feedRanker.rank(candidates::iterator, rankedAt, after, PagingConstants.DEFAULT_SIZE.value);
         }
 
-        // 4. 리뷰 조회 및 응답 생성
-        return getNearbyReviewsFeed(nearbyStores, lastReviewId);
+        // 4. 선택된 리뷰의 카드만 채워 응답 생성
+        List<Long> reviewIds = page.items().stream()
+                .map(ReviewFeedRanker.Ranked::reviewId)
+                .toList();
+        List<ReviewFeedResponse> reviews = toFeedResponses(reviewIds);
+
+        return new RankedReviewFeedResult(reviews, page.hasNext(),
+                page.hasNext() ? page.nextCursor().encode() : null);
     }
 
     /**
@@ -244,7 +337,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     @Transactional(readOnly = true)
     public ReviewDetailResponse getReviewDetail(final Long reviewId, final String email) {
-        validatedToken(email);
+        User viewer = findViewerByEmail(email);
 
         // 1. 리뷰 조회 (연관 엔티티 포함)
         Review review = reviewRepository.findByIdWithDetails(reviewId)
@@ -253,11 +346,12 @@ public class ReviewServiceImpl implements ReviewService {
         // 2. 연관 엔티티 null 체크
         validateReviewIntegrity(review);
 
-        // 3. 스크랩 정보 계산
-        List<ReviewScrap> scraps = review.getScraps();
-        int scrapCount = scraps.size();
-        boolean isScrapped = scraps.stream()
-                .anyMatch(scrap -> scrap.getUser().getEmail().equals(email));
+        // 3. 스크랩 정보 - Redis 스크랩 집합이 있으면 반영 전 토글까지 포함, 없으면 DB 스크랩 수와 존재 확인
+        ReviewScrapStateService.ToggleResult scrapState = reviewScrapStateService.findState(reviewId, viewer.getId());
+        int scrapCount = scrapState != null ? scrapState.count() : review.getScrapCount();
+        boolean isScrapped = scrapState != null
+                ? scrapState.scrapped()
+                : reviewScrapRepository.existsByUserIdAndReviewId(viewer.getId(), reviewId);
 
         // 4. 응답 생성
         return buildReviewDetailResponse(review, scrapCount, isScrapped);
@@ -279,14 +373,14 @@ public class ReviewServiceImpl implements ReviewService {
         try {
             // 요청된 사이즈보다 1개 더 가져와서 hasNext 판단
             Pageable pageable = PageRequest.of(0, pageSize + 1);
-            List<Review> reviews = reviewRepository.findMyReviews(eater.getId(), lastReviewId, pageable);
+            List<Long> reviewIds = reviewRepository.findMyReviewIds(eater.getId(), lastReviewId, pageable);
 
-            // hasNext 판단 및 응답 생성
-            boolean hasNext = reviews.size() > pageSize;
-            List<Review> content = hasNext ? reviews.subList(0, pageSize) : reviews;
+            // hasNext 판단 후 현재 페이지의 카드만 채워 응답 생성
+            boolean hasNext = reviewIds.size() > pageSize;
+            List<Long> content = hasNext ? reviewIds.subList(0, pageSize) : reviewIds;
 
-            List<MyReviewResponse> result = content.stream()
-                    .map(this::buildMyReviewResponse)
+            List<MyReviewResponse> result = reviewCardCacheService.getCards(content).stream()
+                    .map(reviewMapper::toMyReviewResponse)
                     .toList();
 
             return ReviewFeedResult.myReviews(result, hasNext);
@@ -310,7 +404,9 @@ public class ReviewServiceImpl implements ReviewService {
                 throw new ApiException(FORBIDDEN);
             }
 
+            ReviewDeletedEvent event = ReviewDeletedEvent.of(review);
             reviewRepository.deleteById(reviewId);
+            eventPublisher.publishEvent(event);
             log.info("Review ID {} successfully deleted by User ID {}", reviewId, eater.getId());
         } catch (ApiException e) {
             throw e;
@@ -320,16 +416,28 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
-    public List<Review> getMyReceivedReviews(final String email) {
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MyReceivedResponse> getMyReceivedReviews(final String email, final Long lastReviewId,
+                                                                       final int pageSize) {
         User maker = makerRepository.findByEmailAndDeletedFalse(email)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-        long storeId = maker.getStores().getFirst().getId();
-        return reviewRepository.findByStoreIdAndStatusOrderByCreatedAtDesc(storeId, Status.SUCCESS);
+        return getReviews(maker.getStores().getFirst().getId(), lastReviewId, pageSize);
     }
 
+    /**
+     * 가게 리뷰 목록 (SUCCESS 리뷰만, id 키셋 커서)
+     */
     @Override
-    public List<Review> getReviews(final Long storeId) {
-        return reviewRepository.findByStoreId(storeId);
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MyReceivedResponse> getReviews(final Long storeId, final Long lastReviewId,
+                                                             final int pageSize) {
+        List<Long> rows = reviewRepository.findReceivedIds(storeId, Status.SUCCESS, lastReviewId,
+                CursorPageResponse.request(pageSize));
+        CursorPageResponse<Long> page = CursorPageResponse.of(rows, pageSize, Function.identity());
+
+        return page.withContent(reviewCardCacheService.getCards(page.content()).stream()
+                .map(reviewMapper::toReceivedResponse)
+                .toList());
     }
 
     // ===== Private Helper Methods =====
@@ -364,31 +472,41 @@ public class ReviewServiceImpl implements ReviewService {
         }
     }
 
+    /**
+     * POI 기준 피드 생성 (근처 매장이 없으면 전체 피드)
+     */
+    private ReviewFeedResult<ReviewFeedResponse> buildPoiFeed(Poi poi, int distance, Long lastReviewId) {
+        List<StoreDistanceResult> nearbyStores = getNearbyStores(poi.getId(), distance);
+        if (nearbyStores.isEmpty()) {
+            log.debug("No stores found within {}m from POI: {}", distance, poi.getName());
+            return getFallbackFeed(lastReviewId);
+        }
+
+        return getNearbyReviewsFeed(poi, distance, nearbyStores, lastReviewId);
+    }
+
     /**
      * 근처 매장들의 리뷰 피드 생성
      */
     private ReviewFeedResult<ReviewFeedResponse> getNearbyReviewsFeed(
-            List<StoreDistanceResult> nearbyStores, Long lastReviewId) {
+            Poi poi, int distance, List<StoreDistanceResult> nearbyStores, Long lastReviewId) {
 
         List<Long> storeIds = nearbyStores.stream()
                 .map(StoreDistanceResult::storeId)
                 .toList();
 
-        List<Review> reviews = fetchReviewsWithAssets(storeIds, lastReviewId);
+        List<Long> reviewIds = findFeedReviewIds(poi, distance, storeIds, lastReviewId);
 
-        if (reviews.isEmpty()) {
+        if (reviewIds.isEmpty()) {
             log.info("No reviews found for {} nearby stores, returning fallback feed", storeIds.size());
             return getFallbackFeed(lastReviewId);
         }
 
-        PaginationResult<Review> paginationResult = applyPagination(reviews);
-
-        // 응답 생성
-        List<ReviewFeedResponse> feedResponses = paginationResult.content().stream()
-                .map(this::buildNearbyReviewResponse)
-                .toList();
+        PaginationResult<Long> paginationResult = applyPagination(reviewIds);
 
-        return ReviewFeedResult.nearbyReviews(feedResponses, paginationResult.hasNext());
+        // 현재 페이지의 카드만 채워 응답 생성
+        return ReviewFeedResult.nearbyReviews(toFeedResponses(paginationResult.content()),
+                paginationResult.hasNext());
     }
 
     /**
@@ -396,19 +514,22 @@ public class ReviewServiceImpl implements ReviewService {
      */
     private ReviewFeedResult<ReviewFeedResponse> getFallbackFeed(Long lastReviewId) {
         log.info("Providing fallback feed with lastReviewId: {}", lastReviewId);
+        int pageSize = PagingConstants.DEFAULT_SIZE.value + PagingConstants.BUFFER.value;
 
-        Pageable pageable = PageRequest.of(0,
-                PagingConstants.DEFAULT_SIZE.value + PagingConstants.BUFFER.value);
-
-        List<Review> reviews = reviewRepository.findAllOrderByIdDescWithAssets(lastReviewId, pageable);
+        // 앞쪽 페이지는 메모리 버퍼에서 바로 제공
+        List<ReviewFeedResponse> buffered = reviewFallbackFeedService.findPage(lastReviewId, pageSize);
+        if (buffered != null) {
+            PaginationResult<ReviewFeedResponse> bufferedPage = applyPagination(buffered);
+            return ReviewFeedResult.fallbackReviews(bufferedPage.content(), bufferedPage.hasNext());
+        }
 
-        PaginationResult<Review> paginationResult = applyPagination(reviews);
+        Pageable pageable = PageRequest.of(0, pageSize);
+        List<Long> reviewIds = reviewRepository.findIdsOrderByIdDesc(Status.SUCCESS, lastReviewId, pageable);
 
-        List<ReviewFeedResponse> feedResponses = paginationResult.content().stream()
-                .map(this::buildFallbackReviewResponse)
-                .toList();
+        PaginationResult<Long> paginationResult = applyPagination(reviewIds);
 
-        return ReviewFeedResult.fallbackReviews(feedResponses, paginationResult.hasNext());
+        return ReviewFeedResult.fallbackReviews(toFeedResponses(paginationResult.content()),
+                paginationResult.hasNext());
     }
 
     /**
@@ -427,56 +548,12 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     /**
-     * 근처 리뷰 응답 생성
+     * 리뷰 ID 순서대로 피드 카드 응답 생성 (리뷰 카드 캐시 사용)
      */
-    private ReviewFeedResponse buildNearbyReviewResponse(Review review) {
-        ReviewAsset asset = review.getReviewAsset();
-
-        return ReviewFeedResponse.builder()
-                .reviewId(review.getId())
-                .storeName(review.getStore().getName())
-                .description(review.getDescription())
-                .menuNames(extractMenuNames(review))
-                .imageUrl(asset != null ? asset.getImageUrl() : null)
-                .shortsUrl(asset != null ? asset.getShortsUrl() : null)
-                .thumbnailUrl(asset != null ? asset.getThumbnailPath() : null)
-                .build();
-    }
-
-    /**
-     * 전체 피드 리뷰 응답 생성
-     */
-    private ReviewFeedResponse buildFallbackReviewResponse(Review review) {
-        validateReviewIntegrity(review);
-        ReviewAsset asset = review.getReviewAsset();
-
-        return ReviewFeedResponse.builder()
-                .reviewId(review.getId())
-                .storeName(review.getStore().getName())
-                .description(review.getDescription())
-                .menuNames(extractMenuNames(review))
-                .imageUrl(asset != null ? asset.getImageUrl() : null)
-                .shortsUrl(asset != null ? asset.getShortsUrl() : null)
-                .thumbnailUrl(asset != null ? asset.getThumbnailPath() : null)
-                .build();
-    }
-
-    /**
-     * 내 리뷰 응답 생성
-     */
-    private MyReviewResponse buildMyReviewResponse(Review review) {
-        validateReviewIntegrity(review);
-
-        return MyReviewResponse.builder()
-                .reviewId(review.getId())
-                .storeName(review.getStore().getName())
-                .description(review.getDescription())
-                .menuNames(extractMenuNames(review))
-                .imageUrl(review.getReviewAsset().getImageUrl())
-                .shortsUrl(review.getReviewAsset().getShortsUrl())
-                .thumbnailUrl(review.getReviewAsset().getThumbnailPath())
-                .createdAt(review.getCreatedAt())
-                .build();
+    private List<ReviewFeedResponse> toFeedResponses(List<Long> reviewIds) {
+        return reviewCardCacheService.getCards(reviewIds).stream()
+                .map(reviewMapper::toFeedResponse)
+                .toList();
     }
 
     /**
@@ -523,16 +600,7 @@ public class ReviewServiceImpl implements ReviewService {
      * 리뷰에 연결된 메뉴 이름 리스트 추출 - Review -> ReviewMenu -> Menu.name 경로로 안전하게 매핑 - null 안전 처리 및 중복 제거
      */
     private List<String> extractMenuNames(Review review) {
-        if (review == null || review.getReviewMenus() == null) {
-            return List.of();
-        }
-        return review.getReviewMenus().stream()
-                .map(ReviewMenu::getMenu)
-                .filter(Objects::nonNull)
-                .map(Menu::getName)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
+        return reviewMapper.toMenuNames(review);
     }
 
     /**
@@ -666,6 +734,15 @@ public class ReviewServiceImpl implements ReviewService {
         return type == ReviewAssetType.IMAGE;
     }
 
+    /**
+     * 조회 사용자 (Eater 또는 Maker)
+     */
+    private User findViewerByEmail(final String email) {
+        return eaterRepository.findByEmailAndDeletedFalse(email)
+                .or(() -> makerRepository.findByEmailAndDeletedFalse(email))
+                .orElseThrow(() -> new ApiException(FORBIDDEN));
+    }
+
     private void validatedToken(final String email) {
         boolean isEater = eaterRepository.findByEmailAndDeletedFalse(email).isPresent();
         boolean isMaker = makerRepository.findByEmailAndDeletedFalse(email).isPresent();
@@ -695,18 +772,133 @@ public class ReviewServiceImpl implements ReviewService {
         }
     }
 
-    private List<Review> fetchReviewsWithAssets(List<Long> storeIds, Long lastReviewId) {
-        Pageable pageable = PageRequest.of(0,
-                PagingConstants.DEFAULT_SIZE.value + PagingConstants.BUFFER.value);
+    private List<Long> findFeedReviewIds(Poi poi, int distance, List<Long> storeIds, Long lastReviewId) {
+        int limit = PagingConstants.DEFAULT_SIZE.value + PagingConstants.BUFFER.value;
 
         try {
-            return reviewRepository.findByStoreIdInOrderByIdDescWithAssets(storeIds, lastReviewId, pageable);
+            // 가게별 타임라인 병합, 타임라인만으로 정확한 페이지를 만들 수 없으면 DB에서 영역 단위로 조회
+            // (H3 채우기가 끝나기 전에는 셀이 빈 리뷰가 영역 조회에서 빠지므로 가게 ID 조회 사용)
+            List<Long> reviewIds = reviewTimelineService.findLatestReviewIds(storeIds, lastReviewId, limit);
+            if (reviewIds == null && reviewH3BackfillService.isCompleted()) {
+                reviewIds = findReviewIdsInArea(poi, distance, Set.copyOf(storeIds), lastReviewId, limit);
+            }
+            if (reviewIds == null) {
+                reviewIds = reviewRepository.findIdsByStoreIdInOrderByIdDesc(storeIds, Status.SUCCESS, lastReviewId,
+                        PageRequest.of(0, limit));
+            }
+            return reviewIds;
         } catch (Exception e) {
             log.error("Failed to fetch reviews for stores {}: {}", storeIds, e.getMessage());
             return Collections.emptyList();
         }
     }
 
+    /**
+     * POI 주변 H3 셀에 속한 리뷰를 최신순으로 훑으며 반경 내 가게의 리뷰만 고름
+     * - 셀은 반경보다 넓게 덮으므로 반경 밖 가게의 리뷰는 작은 페이지 안에서 걸러낸다.
+     *
+     * @return 최대 limit개의 리뷰 ID, 정해진 횟수 안에 페이지를 채우지 못하면 null
+     */
+    private List<Long> findReviewIdsInArea(Poi poi, int distance, Set<Long> nearbyStoreIds, Long lastReviewId,
+                                           int limit) {
+        SpatialSearchService.SearchCells area = spatialSearchService.getSearchCells(
+                poi.getLatitude(), poi.getLongitude(), distance);
+        Pageable scanPage = PageRequest.of(0, AREA_SCAN_SIZE);
+
+        List<Long> reviewIds = new ArrayList<>(limit);
+        Long cursor = lastReviewId;
+        for (int scan = 0; scan < MAX_AREA_SCANS; scan++) {
+            List<Object[]> rows = switch (area.resolution()) {
+                case 7 -> reviewRepository.findIdsByH3Index7In(area.cells(), Status.SUCCESS, cursor, scanPage);
+                case 8 -> reviewRepository.findIdsByH3Index8In(area.cells(), Status.SUCCESS, cursor, scanPage);
+                case 9 -> reviewRepository.findIdsByH3Index9In(area.cells(), Status.SUCCESS, cursor, scanPage);
+                case 10 -> reviewRepository.findIdsByH3Index10In(area.cells(), Status.SUCCESS, cursor, scanPage);
+                default -> throw new IllegalArgumentException("Unsupported H3 resolution: " + area.resolution());
+            };
+
+            for (Object[] row : rows) {
+                cursor = ((Number) row[0]).longValue();
+                if (nearbyStoreIds.contains(((Number) row[1]).longValue())) {
+                    reviewIds.add(cursor);
+                    if (reviewIds.size() == limit) {
+                        return reviewIds;
+                    }
+                }
+            }
+
+            if (rows.size() < AREA_SCAN_SIZE) {
+                return reviewIds;
+            }
+        }
+
+        log.debug("Area scan for POI {} did not fill a page within {} scans", poi.getId(), MAX_AREA_SCANS);
+        return null;
+    }
+
+    /**
+     * 순위 피드 후보 - 영역 내 가게별 최근 리뷰 중 반경 안 가게의 것만 (DB 커서에서 행 단위로 변환)
+     * - H3 채우기가 끝나기 전에는 셀이 빈 리뷰가 빠지지 않도록 반경 안 가게 ID로 조회
+     */
+    private Stream<ReviewFeedRanker.Candidate> streamRankingCandidates(Poi poi, int distance,
+                                                                       Map<Long, Integer> storeDistances,
+                                                                       long rankedAt) {
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(rankedAt), ZoneId.systemDefault())
+                .minusDays(RANKING_HORIZON_DAYS);
+
+        Stream<Object[]> rows = reviewH3BackfillService.isCompleted()
+                ? streamRankingCandidatesInArea(poi, distance, since)
+                : reviewRepository.streamRankingCandidatesByStoreIdIn(List.copyOf(storeDistances.keySet()), since,
+                        RANKING_CANDIDATES_PER_STORE);
+
+        // 반환한 스트림을 닫으면 DB 커서도 함께 닫힘
+        return rows
+                .filter(row -> storeDistances.containsKey(((Number) row[1]).longValue()))
+                .map(row -> new ReviewFeedRanker.Candidate(
+                        ((Number) row[0]).longValue(),
+                        storeDistances.get(((Number) row[1]).longValue()),
+                        toEpochMillis(row[2]),
+                        ((Number) row[3]).longValue()));
+    }
+
+    private Stream<Object[]> streamRankingCandidatesInArea(Poi poi, int distance, LocalDateTime since) {
+        SpatialSearchService.SearchCells area = spatialSearchService.getSearchCells(
+                poi.getLatitude(), poi.getLongitude(), distance);
+
+        return switch (area.resolution()) {
+            case 7 -> reviewRepository.streamRankingCandidatesByH3Index7In(area.cells(), since,
+                    RANKING_CANDIDATES_PER_STORE);
+            case 8 -> reviewRepository.streamRankingCandidatesByH3Index8In(area.cells(), since,
+                    RANKING_CANDIDATES_PER_STORE);
+            case 9 -> reviewRepository.streamRankingCandidatesByH3Index9In(area.cells(), since,
+                    RANKING_CANDIDATES_PER_STORE);
+            case 10 -> reviewRepository.streamRankingCandidatesByH3Index10In(area.cells(), since,
+                    RANKING_CANDIDATES_PER_STORE);
+            default -> throw new IllegalArgumentException("Unsupported H3 resolution: " + area.resolution());
+        };
+    }
+
+    private ReviewFeedRanker.Cursor decodeRankingCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return ReviewFeedRanker.Cursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR);
+        }
+    }
+
+    private long toEpochMillis(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.getTime();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        throw new IllegalStateException("Unexpected created_at type: "
+                + (value == null ? "null" : value.getClass().getName()));
+    }
+
     private Map<Long, Integer> createStoreDistanceMap(List<StoreDistanceResult> nearbyStores) {
         return nearbyStores.stream()
                 .collect(Collectors.toMap(
@@ -716,9 +908,9 @@ public class ReviewServiceImpl implements ReviewService {
                 ));
     }
 
-    private PaginationResult<Review> applyPagination(List<Review> reviews) {
+    private <T> PaginationResult<T> applyPagination(List<T> reviews) {
         boolean hasNext = reviews.size() > PagingConstants.DEFAULT_SIZE.value;
-        List<Review> content = hasNext
+        List<T> content = hasNext
                 ? reviews.subList(0, PagingConstants.DEFAULT_SIZE.value)
                 : reviews;
 
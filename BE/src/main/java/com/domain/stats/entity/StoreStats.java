@@ -0,0 +1,40 @@
+package com.domain.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게(Maker) 프로필 통계 - 받은 리뷰/이벤트/메뉴 포스터 수를 도메인 이벤트로 갱신하는 집계 행
+ */
+@Entity
+@Table(name = "store_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreStats {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    // 받은 SUCCESS 리뷰 수
+    @Column(name = "received_review_count", nullable = false)
+    private long receivedReviewCount;
+
+    // 삭제되지 않은 SUCCESS 이벤트 수
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    // 받은 SUCCESS 메뉴 포스터 수
+    @Column(name = "menu_poster_count", nullable = false)
+    private long menuPosterCount;
+
+    // 원본 COUNT로 마지막 검증한 시각 (오래되면 조회 시 다시 계산)
+    @Column(name = "verified_at", nullable = false)
+    private LocalDateTime verifiedAt;
+}
@@ -0,0 +1,39 @@
+package com.domain.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자(Eater) 프로필 통계 - 리뷰/스크랩/메뉴 포스터 수를 도메인 이벤트로 갱신하는 집계 행
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // SUCCESS 리뷰 수
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "scrap_count", nullable = false)
+    private long scrapCount;
+
+    // SUCCESS 메뉴 포스터 수
+    @Column(name = "menu_poster_count", nullable = false)
+    private long menuPosterCount;
+
+    // 원본 COUNT로 마지막 검증한 시각 (오래되면 조회 시 다시 계산)
+    @Column(name = "verified_at", nullable = false)
+    private LocalDateTime verifiedAt;
+}
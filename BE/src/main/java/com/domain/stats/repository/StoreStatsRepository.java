@@ -0,0 +1,46 @@
+package com.domain.stats.repository;
+
+import com.domain.stats.entity.StoreStats;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoreStatsRepository extends JpaRepository<StoreStats, Long> {
+
+    /**
+     * 원본 COUNT로 계산한 통계 저장 (없으면 생성, 있으면 덮어씀)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO store_stats (store_id, received_review_count, event_count, menu_poster_count, verified_at)
+            VALUES (:storeId, :receivedReviewCount, :eventCount, :menuPosterCount, :verifiedAt)
+            ON DUPLICATE KEY UPDATE
+                received_review_count = VALUES(received_review_count),
+                event_count = VALUES(event_count),
+                menu_poster_count = VALUES(menu_poster_count),
+                verified_at = VALUES(verified_at)
+            """, nativeQuery = true)
+    int upsert(@Param("storeId") Long storeId,
+               @Param("receivedReviewCount") long receivedReviewCount,
+               @Param("eventCount") long eventCount,
+               @Param("menuPosterCount") long menuPosterCount,
+               @Param("verifiedAt") LocalDateTime verifiedAt);
+
+    // 증감 - 행 단위 원자적 UPDATE, 통계 행이 없으면 아무것도 하지 않음 (첫 조회 때 원본 COUNT로 생성)
+    @Modifying
+    @Query("UPDATE StoreStats s SET s.receivedReviewCount = s.receivedReviewCount + :delta "
+            + "WHERE s.storeId = :storeId AND s.receivedReviewCount + :delta >= 0")
+    int addReceivedReviewCount(@Param("storeId") Long storeId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE StoreStats s SET s.eventCount = s.eventCount + :delta "
+            + "WHERE s.storeId = :storeId AND s.eventCount + :delta >= 0")
+    int addEventCount(@Param("storeId") Long storeId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE StoreStats s SET s.menuPosterCount = s.menuPosterCount + :delta "
+            + "WHERE s.storeId = :storeId AND s.menuPosterCount + :delta >= 0")
+    int addMenuPosterCount(@Param("storeId") Long storeId, @Param("delta") long delta);
+}
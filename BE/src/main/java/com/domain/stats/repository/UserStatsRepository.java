@@ -0,0 +1,46 @@
+package com.domain.stats.repository;
+
+import com.domain.stats.entity.UserStats;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    /**
+     * 원본 COUNT로 계산한 통계 저장 (없으면 생성, 있으면 덮어씀)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO user_stats (user_id, review_count, scrap_count, menu_poster_count, verified_at)
+            VALUES (:userId, :reviewCount, :scrapCount, :menuPosterCount, :verifiedAt)
+            ON DUPLICATE KEY UPDATE
+                review_count = VALUES(review_count),
+                scrap_count = VALUES(scrap_count),
+                menu_poster_count = VALUES(menu_poster_count),
+                verified_at = VALUES(verified_at)
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("reviewCount") long reviewCount,
+               @Param("scrapCount") long scrapCount,
+               @Param("menuPosterCount") long menuPosterCount,
+               @Param("verifiedAt") LocalDateTime verifiedAt);
+
+    // 증감 - 행 단위 원자적 UPDATE, 통계 행이 없으면 아무것도 하지 않음 (첫 조회 때 원본 COUNT로 생성)
+    @Modifying
+    @Query("UPDATE UserStats s SET s.reviewCount = s.reviewCount + :delta "
+            + "WHERE s.userId = :userId AND s.reviewCount + :delta >= 0")
+    int addReviewCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.scrapCount = s.scrapCount + :delta "
+            + "WHERE s.userId = :userId AND s.scrapCount + :delta >= 0")
+    int addScrapCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.menuPosterCount = s.menuPosterCount + :delta "
+            + "WHERE s.userId = :userId AND s.menuPosterCount + :delta >= 0")
+    int addMenuPosterCount(@Param("userId") Long userId, @Param("delta") long delta);
+}
@@ -0,0 +1,167 @@
+package com.domain.stats.service;
+
+import com.domain.event.event.EventDeletedEvent;
+import com.domain.event.event.EventFinalizedEvent;
+import com.domain.event.repository.EventRepository;
+import com.domain.menu.event.MenuPosterFinalizedEvent;
+import com.domain.menu.repository.MenuPosterRepository;
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.event.ReviewFinalizedEvent;
+import com.domain.review.event.ReviewScrapPersistedEvent;
+import com.domain.review.repository.ReviewRepository;
+import com.domain.review.repository.ReviewScrapRepository;
+import com.domain.stats.entity.StoreStats;
+import com.domain.stats.entity.UserStats;
+import com.domain.stats.repository.StoreStatsRepository;
+import com.domain.stats.repository.UserStatsRepository;
+import com.global.constants.Status;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 프로필 통계 집계 (user_stats / store_stats)
+ * - 리뷰/스크랩/메뉴 포스터/이벤트 상태 전이 이벤트를 원본 커밋 후 별도 트랜잭션에서 행 단위 증감으로 반영한다.
+ *   (통계 갱신 실패가 원본 변경을 되돌리지 않으며, 반영되지 못한 증감은 아래 재계산으로 맞춰진다)
+ * - 조회는 PK 한 행 읽기이며, 행이 없거나 검증 후 VERIFY_INTERVAL이 지났으면 원본 COUNT로 다시 계산해 저장한다.
+ *   (이벤트 없이 바뀌는 경우 - 리뷰 삭제로 함께 지워진 스크랩 등 - 도 이 주기 안에 맞춰진다)
+ */
+@Slf4j
+@Service
+public class StatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final StoreStatsRepository storeStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewScrapRepository reviewScrapRepository;
+    private final MenuPosterRepository menuPosterRepository;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate newTransaction;
+
+    private static final Duration VERIFY_INTERVAL = Duration.ofDays(1);
+
+    public StatsService(UserStatsRepository userStatsRepository, StoreStatsRepository storeStatsRepository,
+                        ReviewRepository reviewRepository, ReviewScrapRepository reviewScrapRepository,
+                        MenuPosterRepository menuPosterRepository, EventRepository eventRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.userStatsRepository = userStatsRepository;
+        this.storeStatsRepository = storeStatsRepository;
+        this.reviewRepository = reviewRepository;
+        this.reviewScrapRepository = reviewScrapRepository;
+        this.menuPosterRepository = menuPosterRepository;
+        this.eventRepository = eventRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 사용자 통계 조회 (없거나 오래되면 원본 COUNT로 재계산)
+     */
+    @Transactional
+    public UserStats getUserStats(Long userId) {
+        UserStats stats = userStatsRepository.findById(userId).orElse(null);
+        if (stats != null && isFresh(stats.getVerifiedAt())) {
+            return stats;
+        }
+
+        userStatsRepository.upsert(userId,
+                reviewRepository.countByUserIdAndStatus(userId, Status.SUCCESS),
+                reviewScrapRepository.countByUserId(userId),
+                menuPosterRepository.countByUserIdAndStatus(userId, Status.SUCCESS),
+                LocalDateTime.now());
+        return userStatsRepository.findById(userId).orElseThrow();
+    }
+
+    /**
+     * 가게 통계 조회 (없거나 오래되면 원본 COUNT로 재계산)
+     */
+    @Transactional
+    public StoreStats getStoreStats(Long storeId) {
+        StoreStats stats = storeStatsRepository.findById(storeId).orElse(null);
+        if (stats != null && isFresh(stats.getVerifiedAt())) {
+            return stats;
+        }
+
+        storeStatsRepository.upsert(storeId,
+                reviewRepository.countByStoreIdAndStatus(storeId, Status.SUCCESS),
+                eventRepository.countByStoreIdAndStatusAndDeletedFalse(storeId, Status.SUCCESS),
+                menuPosterRepository.countByStoreIdAndStatus(storeId, Status.SUCCESS),
+                LocalDateTime.now());
+        return storeStatsRepository.findById(storeId).orElseThrow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewFinalized(ReviewFinalizedEvent event) {
+        apply("review finalized " + event.reviewId(), () -> {
+            userStatsRepository.addReviewCount(event.userId(), 1);
+            storeStatsRepository.addReceivedReviewCount(event.storeId(), 1);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewDeleted(ReviewDeletedEvent event) {
+        if (!event.published()) {
+            return;
+        }
+        apply("review deleted " + event.reviewId(), () -> {
+            userStatsRepository.addReviewCount(event.userId(), -1);
+            storeStatsRepository.addReceivedReviewCount(event.storeId(), -1);
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScrapPersisted(ReviewScrapPersistedEvent event) {
+        apply("scrap of review " + event.reviewId(),
+                () -> userStatsRepository.addScrapCount(event.userId(), event.scrapped() ? 1 : -1));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMenuPosterFinalized(MenuPosterFinalizedEvent event) {
+        apply("menu poster finalized " + event.menuPosterId(), () -> {
+            if (event.userId() != null) {
+                userStatsRepository.addMenuPosterCount(event.userId(), 1);
+            }
+            if (event.storeId() != null) {
+                storeStatsRepository.addMenuPosterCount(event.storeId(), 1);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventFinalized(EventFinalizedEvent event) {
+        if (event.storeId() == null) {
+            return;
+        }
+        apply("event finalized " + event.eventId(), () -> storeStatsRepository.addEventCount(event.storeId(), 1));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventDeleted(EventDeletedEvent event) {
+        if (!event.published() || event.storeId() == null) {
+            return;
+        }
+        apply("event deleted " + event.eventId(), () -> storeStatsRepository.addEventCount(event.storeId(), -1));
+    }
+
+    /**
+     * 원본 커밋 후 새 트랜잭션에서 증감 반영, 실패하면 기록만 남김 (다음 검증 때 재계산)
+     */
+    private void apply(String description, Runnable update) {
+        try {
+            newTransaction.executeWithoutResult(status -> update.run());
+        } catch (Exception e) {
+            log.warn("Failed to update stats for {}: {}", description, e.getMessage());
+        }
+    }
+
+    private boolean isFresh(LocalDateTime verifiedAt) {
+        return verifiedAt != null && verifiedAt.isAfter(LocalDateTime.now().minus(VERIFY_INTERVAL));
+    }
+}
@@ -60,12 +60,6 @@ public class EaterController {
 
     @GetMapping("/me")
     public ResponseEntity<BaseResponse> getProfile(@AuthenticationPrincipal String email) {
-        return ApiResponseFactory.success(SuccessCode.PROFILE_GET,
-                eaterMapper.toResponse(
-                        eaterService.getNickname(email),
-                        eaterService.countMyReviews(email),
-                        eaterService.countMyScrapReviews(email),
-                        eaterService.countMyMenuPosters(email)
-                ));
+        return ApiResponseFactory.success(SuccessCode.PROFILE_GET, eaterService.getProfile(email));
     }
 }
@@ -3,6 +3,7 @@ package com.domain.user.service;
 import com.domain.user.dto.request.EaterCheckEmailRequest;
 import com.domain.user.dto.request.EaterCheckNicknameRequest;
 import com.domain.user.dto.request.EaterSignUpRequest;
+import com.domain.user.dto.response.EaterGetProfileResponse;
 import com.domain.user.entity.User;
 
 public interface EaterService {
@@ -13,11 +14,5 @@ public interface EaterService {
 
     void validateNicknameAvailable(EaterCheckNicknameRequest request);
 
-    Long countMyReviews(String email);
-
-    Long countMyScrapReviews(String email);
-
-    Long countMyMenuPosters(String email);
-
-    String getNickname(String email);
+    EaterGetProfileResponse getProfile(String email);
 }
@@ -15,12 +15,6 @@ public interface MakerService {
 
     void validateEmailAvailable(MakerCheckEmailRequest request);
 
-    Long countReceivedReviews(String email);
-
-    Long countMyEvents(String email);
-
-    Long countMyMenuPosters(String email);
-
     String getStoreName(String email);
     Long getStoreId(String email);
     MakerGetProfileResponse getProfile(String email);
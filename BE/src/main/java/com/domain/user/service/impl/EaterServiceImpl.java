@@ -1,18 +1,17 @@
 package com.domain.user.service.impl;
 
-import com.domain.menu.repository.MenuPosterRepository;
-import com.domain.review.repository.ReviewRepository;
-import com.domain.review.repository.ReviewScrapRepository;
+import com.domain.stats.entity.UserStats;
+import com.domain.stats.service.StatsService;
 import com.domain.user.dto.request.EaterCheckEmailRequest;
 import com.domain.user.dto.request.EaterCheckNicknameRequest;
 import com.domain.user.dto.request.EaterSignUpRequest;
+import com.domain.user.dto.response.EaterGetProfileResponse;
 import com.domain.user.entity.User;
 import com.domain.user.mapper.EaterMapper;
 import com.domain.user.repository.EaterRepository;
 import com.domain.user.service.EaterService;
 import com.domain.user.validator.UserValidator;
 import com.global.constants.ErrorCode;
-import com.global.constants.Status;
 import com.global.exception.ApiException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,9 +22,7 @@ import org.springframework.stereotype.Service;
 public class EaterServiceImpl implements EaterService {
 
     private final EaterRepository eaterRepository;
-    private final ReviewRepository reviewRepository;
-    private final ReviewScrapRepository reviewScrapRepository;
-    private final MenuPosterRepository menuPosterRepository;
+    private final StatsService statsService;
 
     private final EaterMapper eaterMapper;
 
@@ -65,26 +62,19 @@ public class EaterServiceImpl implements EaterService {
         validateDuplicateNickname(request.nickname());
     }
 
+    /**
+     * 냠냠이 프로필 - 닉네임과 통계 행 한 번 조회로 리뷰/스크랩/메뉴 포스터 수 제공
+     *
+     * @param email 사용자 이메일
+     */
     @Override
-    public Long countMyReviews(final String email) {
-        return reviewRepository.countByUserIdAndStatus(getEaterId(email), Status.SUCCESS);
-    }
-
-    @Override
-    public Long countMyScrapReviews(final String email) {
-        return reviewScrapRepository.countByUserId(getEaterId(email));
-    }
-
-    @Override
-    public Long countMyMenuPosters(final String email) {
-        return menuPosterRepository.countByUserIdAndStatus(getEaterId(email), Status.SUCCESS);
-    }
+    public EaterGetProfileResponse getProfile(final String email) {
+        User eater = eaterRepository.findByEmailAndDeletedFalse(email)
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        UserStats stats = statsService.getUserStats(eater.getId());
 
-    @Override
-    public String getNickname(final String email) {
-        return eaterRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getNickname();
+        return eaterMapper.toResponse(eater.getNickname(), stats.getReviewCount(), stats.getScrapCount(),
+                stats.getMenuPosterCount());
     }
 
     // @formatter:off
@@ -134,10 +124,4 @@ public class EaterServiceImpl implements EaterService {
             throw new ApiException(ErrorCode.NICKNAME_DUPLICATED, nickname);
         }
     }
-
-    private Long getEaterId(String email) {
-        return eaterRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getId();
-    }
 }
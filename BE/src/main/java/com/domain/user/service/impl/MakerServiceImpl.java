@@ -1,11 +1,10 @@
 package com.domain.user.service.impl;
 
-import com.domain.event.repository.EventRepository;
 import com.domain.menu.entity.Menu;
 import com.domain.menu.mapper.MenuMapper;
-import com.domain.menu.repository.MenuPosterRepository;
 import com.domain.menu.repository.MenuRepository;
-import com.domain.review.repository.ReviewRepository;
+import com.domain.stats.entity.StoreStats;
+import com.domain.stats.service.StatsService;
 import com.domain.store.entity.Store;
 import com.domain.store.event.StoreCreatedEvent;
 import com.domain.store.mapper.StoreMapper;
@@ -20,7 +19,6 @@ import com.domain.user.repository.MakerRepository;
 import com.domain.user.service.MakerService;
 import com.domain.user.validator.UserValidator;
 import com.global.constants.ErrorCode;
-import com.global.constants.Status;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
 import com.global.utils.geo.H3Utils;
@@ -39,10 +37,8 @@ import org.springframework.web.multipart.MultipartFile;
 @Slf4j
 public class MakerServiceImpl implements MakerService {
 
-    private final MenuPosterRepository menuPosterRepository;
     private final FileStorageService fileStorageService;
-    private final ReviewRepository reviewRepository;
-    private final EventRepository eventRepository;
+    private final StatsService statsService;
     private final MakerRepository makerRepository;
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
@@ -102,21 +98,6 @@ public class MakerServiceImpl implements MakerService {
         validateDuplicateEmail(request.email());
     }
 
-    @Override
-    public Long countReceivedReviews(final String email) {
-        return reviewRepository.countByStoreIdAndStatus(getStorerId(email), Status.SUCCESS);
-    }
-
-    @Override
-    public Long countMyEvents(final String email) {
-        return eventRepository.countByStoreIdAndStatus(getStorerId(email), Status.SUCCESS);
-    }
-
-    @Override
-    public Long countMyMenuPosters(final String email) {
-        return menuPosterRepository.countByStoreIdAndStatus(getStorerId(email), Status.SUCCESS);
-    }
-
     @Override
     public String getStoreName(final String email) {
         return makerRepository.findByEmailAndDeletedFalse(email)
@@ -137,8 +118,14 @@ public class MakerServiceImpl implements MakerService {
 
     @Override
     public MakerGetProfileResponse getProfile(String email) {
-        return makerRepository.getProfileByEmail(email)
+        // 가게가 없는 사장님은 기존 프로필 조회(가게 조인)와 같이 인증 오류로 처리
+        Store store = makerRepository.findByEmailAndDeletedFalse(email)
+                .flatMap(maker -> maker.getStores().stream().findFirst())
                 .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED));
+        StoreStats stats = statsService.getStoreStats(store.getId());
+
+        return makerMapper.toResponse(store.getId(), store.getName(), stats.getReceivedReviewCount(),
+                stats.getEventCount(), stats.getMenuPosterCount());
     }
 
     private String storeImage(MultipartFile imageRequest, String path) {
@@ -181,14 +168,6 @@ public class MakerServiceImpl implements MakerService {
         }
     }
 
-    private Long getStorerId(String email) {
-        return makerRepository.findByEmailAndDeletedFalse(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND))
-                .getStores()
-                .getFirst()
-                .getId();
-    }
-
     private void publishStoreCreatedEvent(Store store, MakerSignUpBaseRequest request) {
         try {
             StoreCreatedEvent event = StoreCreatedEvent.of(
@@ -0,0 +1,46 @@
+package com.global.dto.response;
+
+import com.global.constants.ErrorCode;
+import com.global.constants.PagingConstants;
+import com.global.exception.ApiException;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 커서(키셋) 기반 목록 응답
+ *
+ * @param content    현재 페이지 항목
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 요청 시 전달할 마지막 항목 ID (없으면 null)
+ */
+public record CursorPageResponse<T>(List<T> content, boolean hasNext, Long nextCursor) {
+
+    /**
+     * 요청 크기보다 1개 더 조회하는 Pageable (hasNext 판단용)
+     */
+    public static Pageable request(int pageSize) {
+        if (pageSize <= 0 || pageSize > PagingConstants.MAX_SIZE.value) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR);
+        }
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    /**
+     * request()로 조회한 결과를 페이지 크기에 맞춰 자르고 다음 커서를 계산
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int pageSize, Function<T, Long> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? cursorOf.apply(content.getLast()) : null;
+        return new CursorPageResponse<>(content, hasNext, nextCursor);
+    }
+
+    /**
+     * 같은 커서 정보로 항목만 바꾼 응답 (ID 페이지 → 카드 페이지)
+     */
+    public <R> CursorPageResponse<R> withContent(List<R> newContent) {
+        return new CursorPageResponse<>(newContent, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,119 @@
+package com.a609.eatda.domain.common.dto.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.domain.common.dto.redis.StoreCacheEntry;
+import com.domain.review.dto.response.StoreDistanceResult;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class StoreCacheEntryTest {
+
+    @Test
+    void 인코딩한_엔트리를_디코딩하면_같은_값이_복원된다() {
+        StoreCacheEntry entry = StoreCacheEntry.builder()
+                .stores(List.of(
+                        StoreDistanceResult.builder().storeId(10L).distance(120).build(),
+                        StoreDistanceResult.builder().storeId(7L).distance(280).build()))
+                .computeMillis(35)
+                .expiresAt(1_700_000_000_000L)
+                .version(3)
+                .build();
+
+        StoreCacheEntry decoded = StoreCacheEntry.decode(entry.encode());
+
+        assertThat(decoded).isEqualTo(entry);
+    }
+
+    @Test
+    void 빈_Store_목록도_인코딩_디코딩된다() {
+        StoreCacheEntry entry = StoreCacheEntry.builder()
+                .stores(List.of())
+                .computeMillis(12)
+                .expiresAt(1_000L)
+                .version(1)
+                .build();
+
+        assertThat(StoreCacheEntry.decode(entry.encode()).stores()).isEmpty();
+    }
+
+    @Test
+    void 형식이_잘못된_문자열은_예외가_발생한다() {
+        assertThatThrownBy(() -> StoreCacheEntry.decode("broken"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 만료가_멀면_조기_갱신하지_않는다() {
+        long now = 1_000_000L;
+        StoreCacheEntry entry = entryExpiringAt(now + 30 * 60 * 1000L, 50);
+
+        long refreshes = IntStream.range(0, 1_000)
+                .filter(i -> entry.shouldRefreshEarly(now, 1.0))
+                .count();
+
+        assertThat(refreshes).isZero();
+    }
+
+    @Test
+    void 만료가_가까울수록_조기_갱신_확률이_높아진다() {
+        long now = 1_000_000L;
+        StoreCacheEntry far = entryExpiringAt(now + 200, 50);
+        StoreCacheEntry near = entryExpiringAt(now + 10, 50);
+
+        long farRefreshes = IntStream.range(0, 10_000)
+                .filter(i -> far.shouldRefreshEarly(now, 1.0))
+                .count();
+        long nearRefreshes = IntStream.range(0, 10_000)
+                .filter(i -> near.shouldRefreshEarly(now, 1.0))
+                .count();
+
+        assertThat(nearRefreshes).isGreaterThan(farRefreshes);
+    }
+
+    @Test
+    void 논리_만료_시각이_지나면_만료로_판단한다() {
+        StoreCacheEntry entry = entryExpiringAt(1_000L, 10);
+
+        assertThat(entry.isExpired(999L)).isFalse();
+        assertThat(entry.isExpired(1_000L)).isTrue();
+    }
+
+    @Test
+    void 새_Store는_거리순_위치에_추가되고_버전이_증가한다() {
+        StoreCacheEntry entry = StoreCacheEntry.builder()
+                .stores(List.of(
+                        StoreDistanceResult.builder().storeId(1L).distance(100).build(),
+                        StoreDistanceResult.builder().storeId(2L).distance(300).build()))
+                .computeMillis(20)
+                .expiresAt(5_000L)
+                .version(7)
+                .build();
+
+        StoreCacheEntry patched = entry.withStore(StoreDistanceResult.builder().storeId(3L).distance(200).build());
+
+        assertThat(patched.stores()).extracting(StoreDistanceResult::storeId).containsExactly(1L, 3L, 2L);
+        assertThat(patched.version()).isEqualTo(8);
+        assertThat(patched.expiresAt()).isEqualTo(5_000L);
+    }
+
+    @Test
+    void 이미_포함된_Store는_다시_추가하지_않는다() {
+        StoreCacheEntry entry = entryExpiringAt(5_000L, 20);
+
+        StoreCacheEntry patched = entry.withStore(StoreDistanceResult.builder().storeId(1L).distance(100).build());
+
+        assertThat(patched).isSameAs(entry);
+    }
+
+    private StoreCacheEntry entryExpiringAt(long expiresAt, long computeMillis) {
+        return StoreCacheEntry.builder()
+                .stores(List.of(StoreDistanceResult.builder().storeId(1L).distance(100).build()))
+                .computeMillis(computeMillis)
+                .expiresAt(expiresAt)
+                .version(1)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.a609.eatda.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.domain.common.dto.CacheTuningState;
+import com.domain.common.service.AimdTuner;
+import org.junit.jupiter.api.Test;
+
+class AimdTunerTest {
+
+    private final AimdTuner tuner = new AimdTuner(200, 300);
+
+    private final CacheTuningState initial = CacheTuningState.builder()
+            .cacheTtlMinutes(30)
+            .hotspotThreshold(100)
+            .l1MaximumSize(10)
+            .refreshConcurrency(4)
+            .build();
+
+    @Test
+    void 지연이_목표를_넘으면_핫스팟_임계값을_낮추고_L1을_키운다() {
+        AimdTuner.Decision decision = tuner.decide(initial, signals(350, 100, 0, 90));
+
+        assertThat(decision.next().hotspotThreshold()).isEqualTo(80);
+        assertThat(decision.next().l1MaximumSize()).isEqualTo(15);
+        assertThat(decision.next().cacheTtlMinutes()).isEqualTo(30);
+    }
+
+    @Test
+    void 지연이_높고_히트율이_낮으면_TTL도_늘린다() {
+        AimdTuner.Decision decision = tuner.decide(initial, signals(350, 100, 0, 50));
+
+        assertThat(decision.next().cacheTtlMinutes()).isEqualTo(45);
+    }
+
+    @Test
+    void 재계산_부하가_예산을_넘으면_동시성을_줄이고_TTL을_늘린다() {
+        AimdTuner.Decision decision = tuner.decide(initial, signals(150, 600, 0, 90));
+
+        assertThat(decision.next().refreshConcurrency()).isEqualTo(2);
+        assertThat(decision.next().cacheTtlMinutes()).isEqualTo(45);
+    }
+
+    @Test
+    void 목표와_여유_구간_사이에서는_설정을_유지한다() {
+        AimdTuner.Decision decision = tuner.decide(initial, signals(170, 100, 0, 90));
+
+        assertThat(decision.changed(initial)).isFalse();
+    }
+
+    @Test
+    void 여유가_있으면_조금씩_되돌린다() {
+        CacheTuningState tuned = initial.toBuilder().l1MaximumSize(100).build();
+
+        AimdTuner.Decision decision = tuner.decide(tuned, signals(50, 100, 3, 90));
+
+        assertThat(decision.next().cacheTtlMinutes()).isEqualTo(29);
+        assertThat(decision.next().hotspotThreshold()).isEqualTo(105);
+        assertThat(decision.next().l1MaximumSize()).isEqualTo(95);
+        assertThat(decision.next().refreshConcurrency()).isEqualTo(5);
+    }
+
+    @Test
+    void 조정값은_허용_범위를_벗어나지_않는다() {
+        CacheTuningState state = initial;
+        for (int i = 0; i < 50; i++) {
+            state = tuner.decide(state, signals(1_000, 10_000, 0, 10)).next();
+        }
+
+        assertThat(state.cacheTtlMinutes()).isEqualTo(60);
+        assertThat(state.hotspotThreshold()).isEqualTo(20);
+        assertThat(state.l1MaximumSize()).isEqualTo(1000);
+        assertThat(state.refreshConcurrency()).isEqualTo(1);
+    }
+
+    private AimdTuner.Signals signals(double p95, double recomputes, int queueDepth, double hitRate) {
+        return new AimdTuner.Signals(p95, recomputes, queueDepth, hitRate, 0.5);
+    }
+}
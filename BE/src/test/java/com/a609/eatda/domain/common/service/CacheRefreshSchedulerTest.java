@@ -0,0 +1,104 @@
+package com.a609.eatda.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.domain.common.dto.CacheTuningState;
+import com.domain.common.event.CacheTuningChangedEvent;
+import com.domain.common.service.CacheRefreshScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheRefreshSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheRefreshScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new CacheRefreshScheduler(meterRegistry);
+        invoke("initialize");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        invoke("shutdown");
+    }
+
+    @Test
+    void 대기_중인_같은_키는_중복_등록되지_않는다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        occupyAllWorkers(4, release);
+
+        AtomicInteger executions = new AtomicInteger();
+        boolean first = scheduler.submit(1L, 500, false, executions::incrementAndGet);
+        boolean second = scheduler.submit(1L, 500, false, executions::incrementAndGet);
+
+        release.countDown();
+        awaitIdle();
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.refresh.requests", "result", "deduplicated").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void 핫스팟_작업이_먼저_실행된다() throws Exception {
+        // 워커 하나로 실행해 대기열에서 꺼내는 순서가 곧 실행 순서가 되게 함
+        scheduler.onTuningChanged(new CacheTuningChangedEvent(
+                CacheTuningState.builder().refreshConcurrency(1).build()));
+        CountDownLatch release = new CountDownLatch(1);
+        occupyAllWorkers(1, release);
+
+        List<Long> order = new CopyOnWriteArrayList<>();
+        scheduler.submit(1L, 500, false, () -> order.add(1L));
+        scheduler.submit(2L, 500, false, () -> order.add(2L));
+        scheduler.submit(3L, 500, true, () -> order.add(3L));
+
+        release.countDown();
+        awaitIdle();
+
+        assertThat(order).containsExactly(3L, 1L, 2L);
+    }
+
+    // 모든 워커를 점유해 이후 작업이 대기열에 쌓이도록 한다
+    private void occupyAllWorkers(int workers, CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(workers);
+        for (long i = 0; i < workers; i++) {
+            scheduler.submit(1000L + i, 300, true, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (System.currentTimeMillis() < deadline
+                && (scheduler.getPendingCount() > 0
+                || meterRegistry.get("cache.refresh.active").gauge().value() > 0)) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void invoke(String methodName) throws Exception {
+        Method method = CacheRefreshScheduler.class.getDeclaredMethod(methodName);
+        method.setAccessible(true);
+        method.invoke(scheduler);
+    }
+}
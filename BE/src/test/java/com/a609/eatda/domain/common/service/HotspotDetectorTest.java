@@ -0,0 +1,135 @@
+package com.a609.eatda.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+import com.domain.common.service.HotspotDetector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 합성 트래픽 곡선(분 단위 접근 횟수)으로 핫스팟 판정을 시뮬레이션
+ */
+class HotspotDetectorTest {
+
+    private static final int THRESHOLD = 100;   // 시간당 100회
+    private final HotspotDetector detector = new HotspotDetector(10, 0.7);
+
+    @Test
+    void 일정한_트래픽의_접근률은_시간당_횟수로_수렴한다() {
+        double rate = 0;
+        for (int minute = 0; minute < 180; minute++) {
+            rate = detector.nextRate(rate, 3);
+        }
+
+        assertThat(rate).isCloseTo(180.0, offset(1.0));
+    }
+
+    @Test
+    void 정각_직전에_뜨거워진_POI도_이력이_유지되어_승격된다() {
+        // 55분부터 분당 4회 (시간당 240회) - 정각 리셋이 없으므로 다음 시간에도 계속 누적
+        Simulation result = simulate(120, minute -> minute >= 55 ? 4 : 0);
+
+        assertThat(result.firstPromotedAt()).isBetween(56, 70);
+        assertThat(result.hotAt(119)).isTrue();
+    }
+
+    @Test
+    void 임계값_근처에서_흔들리는_트래픽은_상태가_반복_전환되지_않는다() {
+        // 평균 시간당 100회 (분당 1~2회) - 임계값 근처를 오가는 노이즈 트래픽
+        Random random = new Random(42);
+        Simulation result = simulate(600, minute -> random.nextInt(100) < 67 ? 2 : 1);
+
+        assertThat(result.transitions()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 히스테리시스가_없으면_같은_트래픽에서_상태가_자주_바뀐다() {
+        HotspotDetector noHysteresis = new HotspotDetector(10, 1.0);
+        Random random = new Random(42);
+        Simulation result = simulate(noHysteresis, 600, minute -> random.nextInt(100) < 67 ? 2 : 1);
+
+        Random sameRandom = new Random(42);
+        Simulation withHysteresis = simulate(600, minute -> sameRandom.nextInt(100) < 67 ? 2 : 1);
+
+        assertThat(result.transitions()).isGreaterThan(withHysteresis.transitions());
+    }
+
+    @Test
+    void 짧은_스파이크는_승격되지_않는다() {
+        // 1분간 20회 후 조용함 (순간 환산으로는 시간당 1200회)
+        Simulation result = simulate(60, minute -> minute == 10 ? 20 : 0);
+
+        assertThat(result.firstPromotedAt()).isEqualTo(-1);
+    }
+
+    @Test
+    void 트래픽이_끊기면_반감기에_따라_강등된다() {
+        // 60분간 분당 5회 후 트래픽 없음
+        Simulation result = simulate(180, minute -> minute < 60 ? 5 : 0);
+
+        assertThat(result.hotAt(59)).isTrue();
+        assertThat(result.hotAt(179)).isFalse();
+        // 300/h에서 70/h 미만까지 떨어지려면 반감기 10분 기준 약 21분
+        assertThat(result.lastDemotedAt()).isBetween(75, 90);
+    }
+
+    @Test
+    void 잘못된_설정값은_예외가_발생한다() {
+        assertThatThrownBy(() -> new HotspotDetector(0, 0.7))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HotspotDetector(10, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Simulation simulate(int minutes, IntToLongFunction traffic) {
+        return simulate(detector, minutes, traffic);
+    }
+
+    private Simulation simulate(HotspotDetector target, int minutes, IntToLongFunction traffic) {
+        List<Boolean> states = new ArrayList<>();
+        double rate = 0;
+        boolean hot = false;
+
+        for (int minute = 0; minute < minutes; minute++) {
+            rate = target.nextRate(rate, traffic.applyAsLong(minute));
+            hot = target.shouldBeHot(hot, rate, THRESHOLD);
+            states.add(hot);
+        }
+        return new Simulation(states);
+    }
+
+    private record Simulation(List<Boolean> states) {
+
+        boolean hotAt(int minute) {
+            return states.get(minute);
+        }
+
+        int transitions() {
+            int count = 0;
+            for (int i = 1; i < states.size(); i++) {
+                if (!states.get(i).equals(states.get(i - 1))) {
+                    count++;
+                }
+            }
+            return count + (states.getFirst() ? 1 : 0);
+        }
+
+        int firstPromotedAt() {
+            return states.indexOf(true);
+        }
+
+        int lastDemotedAt() {
+            for (int i = states.size() - 1; i > 0; i--) {
+                if (!states.get(i) && states.get(i - 1)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.a609.eatda.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.domain.common.dto.redis.StoreCacheEntry;
+import com.domain.common.service.CacheMetricsService;
+import com.domain.common.service.CacheService;
+import com.domain.common.service.MultiLevelCacheService;
+import com.domain.common.service.PoiAccessTrackingService;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class MultiLevelCacheServiceTest {
+
+    @Mock
+    CacheService l2Cache;
+
+    @Mock
+    CacheMetricsService cacheMetricsService;
+
+    @Mock
+    PoiAccessTrackingService accessTrackingService;
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    MultiLevelCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MultiLevelCacheService(l2Cache, cacheMetricsService, accessTrackingService, redisTemplate,
+                listenerContainer);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    void 스냅샷_복원시_L2_버전이_같거나_최신인_엔트리만_L1에_올린다() {
+        long now = System.currentTimeMillis();
+        when(hashOperations.entries("cache:l1:snapshot")).thenReturn(Map.of(
+                "poi:1:500", 100L,
+                "poi:2:500", 100L,
+                "poi:3:500", 100L,
+                "poi:4:500", 100L));
+        when(l2Cache.getCaches(anyList())).thenReturn(Map.of(
+                new CacheService.CacheKey(1L, 500), entry(100L, now + 60_000),  // 같은 버전
+                new CacheService.CacheKey(2L, 500), entry(200L, now + 60_000),  // 이후 재계산된 버전
+                new CacheService.CacheKey(3L, 500), entry(50L, now + 60_000),   // 스냅샷보다 오래된 버전
+                new CacheService.CacheKey(4L, 500), entry(100L, now - 1_000))); // 논리 만료
+
+        int restored = service.restoreSnapshot();
+
+        assertThat(restored).isEqualTo(2);
+        assertThat(service.getL1Contents()).containsOnlyKeys("poi:1:500", "poi:2:500");
+    }
+
+    @Test
+    void 스냅샷이_없으면_빈_L1로_시작한다() {
+        when(hashOperations.entries("cache:l1:snapshot")).thenReturn(Map.of());
+
+        assertThat(service.restoreSnapshot()).isZero();
+        assertThat(service.getL1Contents()).isEmpty();
+    }
+
+    @Test
+    void 패치된_밴드는_L1에서만_제거된다() {
+        long now = System.currentTimeMillis();
+        when(hashOperations.entries("cache:l1:snapshot")).thenReturn(Map.of(
+                "poi:1:500", 100L,
+                "poi:1:1000", 100L));
+        when(l2Cache.getCaches(anyList())).thenReturn(Map.of(
+                new CacheService.CacheKey(1L, 500), entry(100L, now + 60_000),
+                new CacheService.CacheKey(1L, 1000), entry(100L, now + 60_000)));
+        service.restoreSnapshot();
+
+        service.evictL1(List.of(new CacheService.CacheKey(1L, 500)));
+
+        assertThat(service.getL1Contents()).containsOnlyKeys("poi:1:1000");
+        verifyNoMoreInteractions(l2Cache);
+    }
+
+    private StoreCacheEntry entry(long version, long expiresAt) {
+        return StoreCacheEntry.builder()
+                .stores(List.of())
+                .computeMillis(10)
+                .expiresAt(expiresAt)
+                .version(version)
+                .build();
+    }
+}
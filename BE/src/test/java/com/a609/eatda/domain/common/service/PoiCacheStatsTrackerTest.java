@@ -0,0 +1,62 @@
+package com.a609.eatda.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.domain.common.service.PoiCacheStatsTracker;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class PoiCacheStatsTrackerTest {
+
+    @Test
+    void POI별_히트_미스_stale_횟수를_집계한다() {
+        PoiCacheStatsTracker tracker = new PoiCacheStatsTracker(16);
+
+        tracker.recordHit(1L, false);
+        tracker.recordHit(1L, true);
+        tracker.recordMiss(1L);
+        tracker.recordMiss(2L);
+
+        assertThat(tracker.get(1L)).isEqualTo(new PoiCacheStatsTracker.PoiStats(1L, 2, 1, 1));
+        assertThat(tracker.get(2L).misses()).isEqualTo(1);
+        assertThat(tracker.get(3L).total()).isZero();
+    }
+
+    @Test
+    void 용량을_넘는_POI가_들어와도_자주_조회되는_POI는_유지된다() {
+        PoiCacheStatsTracker tracker = new PoiCacheStatsTracker(16);
+        for (int i = 0; i < 100; i++) {
+            tracker.recordHit(7L, false);
+        }
+
+        for (long poiId = 100; poiId < 10_000; poiId++) {
+            tracker.recordMiss(poiId);
+        }
+
+        assertThat(tracker.get(7L).hits()).isEqualTo(100);
+        assertThat(tracker.top(32)).hasSizeLessThanOrEqualTo(32);
+        assertThat(tracker.top(1)).extracting(PoiCacheStatsTracker.PoiStats::poiId).containsExactly(7L);
+    }
+
+    @Test
+    void 동시에_기록해도_횟수가_유실되지_않는다() throws InterruptedException {
+        PoiCacheStatsTracker tracker = new PoiCacheStatsTracker(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    tracker.recordHit(1L + (i % 4), false);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        List<PoiCacheStatsTracker.PoiStats> top = tracker.top(4);
+        assertThat(top).extracting(PoiCacheStatsTracker.PoiStats::hits).containsOnly(20_000L);
+    }
+}
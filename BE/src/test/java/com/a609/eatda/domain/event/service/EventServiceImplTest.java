@@ -55,6 +55,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -79,6 +80,8 @@ class EventServiceImplTest {
     @Mock
     private EventAssetRedisPublisher eventAssetRedisPublisher;
     @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private User maker;
     @Mock
     private Store store;
@@ -2,7 +2,10 @@ package com.a609.eatda.domain.menu.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -11,6 +14,7 @@ import static org.mockito.Mockito.when;
 import com.domain.menu.dto.request.AdoptMenuPostersRequest;
 import com.domain.menu.dto.request.MenuPosterAssetCreateRequest;
 import com.domain.menu.dto.response.AdoptMenuPostersResponse;
+import com.domain.menu.dto.response.MenuPosterGetResponse;
 import com.domain.menu.entity.Menu;
 import com.domain.menu.entity.MenuPoster;
 import com.domain.menu.entity.MenuPosterAsset;
@@ -32,6 +36,7 @@ import com.global.constants.ErrorCode;
 import com.global.constants.Status;
 import com.global.dto.request.AssetCallbackRequest;
 import com.global.dto.response.AssetResultResponse;
+import com.global.dto.response.CursorPageResponse;
 import com.global.exception.ApiException;
 import com.global.filestorage.FileStorageService;
 import java.util.List;
@@ -44,6 +49,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,6 +78,8 @@ class MenuPosterServiceImplTest {
     private MenuPosterAssetRedisPublisher menuPosterAssetRedisPublisher;
     @Mock
     private FileStorageService fileStorageService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Mock
     private User testEater;
@@ -532,4 +541,47 @@ class MenuPosterServiceImplTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
         }
     }
+
+    @Nested
+    @DisplayName("getMyMenuPosters 테스트")
+    class GetMyMenuPostersTest {
+
+        @Test
+        @DisplayName("성공 - 요청 크기보다 많으면 잘라서 다음 커서 반환")
+        void getMyMenuPosters_HasNext() {
+            // Given
+            String eaterEmail = "eater@test.com";
+            User eater = mock(User.class);
+            when(eater.getId()).thenReturn(1L);
+            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail)).thenReturn(Optional.of(eater));
+            when(menuPosterRepository.findUserPage(eq(1L), eq(Status.SUCCESS), isNull(), any(Pageable.class)))
+                    .thenReturn(List.of(
+                            new MenuPosterGetResponse(30L, "poster30.webp"),
+                            new MenuPosterGetResponse(20L, "poster20.webp"),
+                            new MenuPosterGetResponse(10L, "poster10.webp")));
+
+            // When
+            CursorPageResponse<MenuPosterGetResponse> response =
+                    menuPosterService.getMyMenuPosters(eaterEmail, null, 2);
+
+            // Then
+            assertThat(response.content()).extracting(MenuPosterGetResponse::id).containsExactly(30L, 20L);
+            assertThat(response.hasNext()).isTrue();
+            assertThat(response.nextCursor()).isEqualTo(20L);
+        }
+
+        @Test
+        @DisplayName("실패 - 최대 크기를 넘는 요청")
+        void getMyMenuPosters_PageSizeTooLarge() {
+            // Given
+            String eaterEmail = "eater@test.com";
+            User eater = mock(User.class);
+            when(eaterRepository.findByEmailAndDeletedFalse(eaterEmail)).thenReturn(Optional.of(eater));
+
+            // When & Then
+            assertThatThrownBy(() -> menuPosterService.getMyMenuPosters(eaterEmail, null, 1000))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.VALIDATION_ERROR);
+        }
+    }
 }
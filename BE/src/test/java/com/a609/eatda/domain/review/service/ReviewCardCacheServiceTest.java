@@ -0,0 +1,107 @@
+package com.a609.eatda.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.domain.review.dto.redis.ReviewCard;
+import com.domain.review.entity.Review;
+import com.domain.review.mapper.ReviewMapper;
+import com.domain.review.repository.ReviewRepository;
+import com.domain.review.service.ReviewCardCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.constants.Status;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewCardCacheServiceTest {
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    ReviewRepository reviewRepository;
+
+    @Mock
+    ReviewMapper reviewMapper;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    ReviewCardCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewCardCacheService(redisTemplate, objectMapper, reviewRepository, reviewMapper,
+                listenerContainer);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void Redis에_있는_카드는_DB_조회_없이_ID_순서대로_반환한다() throws Exception {
+        when(valueOperations.multiGet(List.of("review:card:2", "review:card:1"))).thenReturn(List.of(
+                objectMapper.writeValueAsString(card(2L)),
+                objectMapper.writeValueAsString(card(1L))));
+
+        assertThat(service.getCards(List.of(2L, 1L)))
+                .extracting(ReviewCard::reviewId)
+                .containsExactly(2L, 1L);
+        verify(reviewRepository, never()).findAllWithAssetsByIdIn(anyList());
+    }
+
+    @Test
+    void DB에서_만든_카드_중_SUCCESS_리뷰만_캐시에_남긴다() {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+        Review published = review(1L, Status.SUCCESS);
+        Review pending = review(2L, Status.PENDING);
+        when(reviewRepository.findAllWithAssetsByIdIn(List.of(1L, 2L))).thenReturn(List.of(pending, published));
+        when(reviewRepository.findAllWithAssetsByIdIn(List.of(2L))).thenReturn(List.of(pending));
+        when(reviewMapper.toCard(published)).thenReturn(card(1L));
+        when(reviewMapper.toCard(pending)).thenReturn(card(2L));
+
+        assertThat(service.getCards(List.of(1L, 2L)))
+                .extracting(ReviewCard::reviewId)
+                .containsExactly(1L, 2L);
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+
+        // SUCCESS 카드는 L1에서, 작성 중인 리뷰는 다시 DB에서
+        service.getCards(List.of(1L, 2L));
+        verify(valueOperations).multiGet(List.of("review:card:2"));
+        verify(reviewRepository, times(1)).findAllWithAssetsByIdIn(List.of(2L));
+    }
+
+    private ReviewCard card(Long reviewId) {
+        return ReviewCard.builder()
+                .reviewId(reviewId)
+                .storeName("가게" + reviewId)
+                .menuNames(List.of("메뉴"))
+                .build();
+    }
+
+    private Review review(Long reviewId, Status status) {
+        Review review = mock(Review.class);
+        when(review.getId()).thenReturn(reviewId);
+        when(review.getStatus()).thenReturn(status);
+        return review;
+    }
+}
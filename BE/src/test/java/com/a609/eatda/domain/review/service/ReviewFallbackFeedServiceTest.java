@@ -0,0 +1,114 @@
+package com.a609.eatda.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.domain.review.dto.response.ReviewFeedResponse;
+import com.domain.review.entity.Review;
+import com.domain.review.event.ReviewAssetUpdatedEvent;
+import com.domain.review.mapper.ReviewMapper;
+import com.domain.review.repository.ReviewRepository;
+import com.domain.review.service.ReviewFallbackFeedService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.global.constants.Status;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewFallbackFeedServiceTest {
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    ReviewRepository reviewRepository;
+
+    @Mock
+    ReviewMapper reviewMapper;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    ReviewFallbackFeedService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewFallbackFeedService(redisTemplate, objectMapper, reviewRepository, reviewMapper,
+                listenerContainer);
+    }
+
+    @Test
+    void 적재_전에는_null을_반환한다() {
+        assertThat(service.findPage(null, 19)).isNull();
+    }
+
+    @Test
+    void 잘리지_않은_버퍼는_커서_이후_카드를_모두_제공한다() throws Exception {
+        givenBuffer(0L, 30, 1);
+
+        assertThat(reviewIds(service.findPage(null, 19))).containsExactly(
+                30L, 29L, 28L, 27L, 26L, 25L, 24L, 23L, 22L, 21L, 20L, 19L, 18L, 17L, 16L, 15L, 14L, 13L, 12L);
+        assertThat(reviewIds(service.findPage(5L, 19))).containsExactly(4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void 잘린_버퍼_밖까지_필요한_페이지는_null을_반환한다() throws Exception {
+        givenBuffer(11L, 30, 11);
+
+        assertThat(service.findPage(null, 19)).hasSize(19);
+        assertThat(service.findPage(20L, 19)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 에셋이_바뀐_리뷰가_버퍼에_있으면_카드를_교체하고_알린다() {
+        Review review = mock(Review.class);
+        when(review.getStatus()).thenReturn(Status.SUCCESS);
+        when(reviewRepository.findAllWithAssetsByIdIn(List.of(7L))).thenReturn(List.of(review));
+        when(reviewMapper.toFeedResponse(review)).thenReturn(ReviewFeedResponse.builder().reviewId(7L).build());
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("review:fallback:cards")), eq(7L),
+                anyString())).thenReturn(1L);
+
+        service.onReviewAssetUpdated(new ReviewAssetUpdatedEvent(7L, 70L));
+
+        verify(redisTemplate).convertAndSend("review:fallback:updated", 7L);
+    }
+
+    private void givenBuffer(long floor, long newestId, long oldestId) throws Exception {
+        Set<Object> members = new LinkedHashSet<>();
+        for (long reviewId = newestId; reviewId >= oldestId; reviewId--) {
+            members.add(objectMapper.writeValueAsString(ReviewFeedResponse.builder()
+                    .reviewId(reviewId)
+                    .storeName("가게" + reviewId)
+                    .build()));
+        }
+        List<Object> results = new ArrayList<>();
+        results.add(floor);
+        results.add(members);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(results);
+
+        service.warmUp();
+    }
+
+    private List<Long> reviewIds(List<ReviewFeedResponse> cards) {
+        return cards.stream().map(ReviewFeedResponse::reviewId).toList();
+    }
+}
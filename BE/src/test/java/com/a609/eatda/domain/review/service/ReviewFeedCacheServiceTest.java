@@ -0,0 +1,74 @@
+package com.a609.eatda.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.domain.common.service.CacheService;
+import com.domain.review.dto.response.ReviewFeedResponse;
+import com.domain.review.dto.response.ReviewFeedResult;
+import com.domain.review.service.ReviewFeedCacheService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewFeedCacheServiceTest {
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    CacheService cacheService;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    ReviewFeedCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewFeedCacheService(redisTemplate, objectMapper, cacheService, listenerContainer);
+    }
+
+    @Test
+    void Redis에_저장된_페이지를_역직렬화하고_이후에는_L1에서_제공한다() throws Exception {
+        ReviewFeedResult<ReviewFeedResponse> page = ReviewFeedResult.nearbyReviews(List.of(
+                ReviewFeedResponse.builder()
+                        .reviewId(10L)
+                        .storeName("가게")
+                        .description("맛있어요")
+                        .menuNames(List.of("김밥"))
+                        .build()), true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("review:feed:page:1:500:first")).thenReturn(objectMapper.writeValueAsString(page));
+
+        ReviewFeedResult<ReviewFeedResponse> first = service.get(1L, 500, null);
+        ReviewFeedResult<ReviewFeedResponse> second = service.get(1L, 500, null);
+
+        assertThat(first).isEqualTo(page);
+        assertThat(second).isEqualTo(page);
+        verify(valueOperations, times(1)).get("review:feed:page:1:500:first");
+    }
+
+    @Test
+    void 캐시된_페이지가_없으면_null을_반환한다() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        assertThat(service.get(1L, 500, 4521L)).isNull();
+        verify(valueOperations).get("review:feed:page:1:500:4521");
+    }
+}
@@ -0,0 +1,69 @@
+package com.a609.eatda.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.domain.review.service.ReviewFeedRanker;
+import com.domain.review.service.ReviewFeedRanker.Candidate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReviewFeedRankerTest {
+
+    private static final long NOW = 1_750_000_000_000L;
+    private static final long HOUR = 3_600_000L;
+
+    private final ReviewFeedRanker ranker = new ReviewFeedRanker(48, 0.5);
+
+    @Test
+    void 같은_시각이면_가까운_가게의_리뷰가_먼저_온다() {
+        List<Candidate> candidates = List.of(
+                new Candidate(2L, 1900, NOW - HOUR, 0),
+                new Candidate(1L, 50, NOW - HOUR, 0));
+
+        ReviewFeedRanker.Page page = ranker.rank(candidates, NOW, null, 10);
+
+        assertThat(page.items()).extracting(ReviewFeedRanker.Ranked::reviewId).containsExactly(1L, 2L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void 오래된_리뷰는_스크랩이_많아도_최근_리뷰보다_뒤로_밀린다() {
+        Candidate fresh = new Candidate(1L, 300, NOW - HOUR, 0);
+        Candidate stale = new Candidate(2L, 300, NOW - 14 * 24 * HOUR, 100);
+
+        assertThat(ranker.score(fresh, NOW)).isGreaterThan(ranker.score(stale, NOW));
+    }
+
+    @Test
+    void 커서로_넘긴_페이지들은_중복_누락_없이_전체_순위를_이어간다() {
+        List<Candidate> candidates = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            // 같은 점수가 섞이도록 거리/시각을 반복
+            candidates.add(new Candidate(id, (int) (id % 3) * 500 + 100, NOW - (id % 4) * HOUR, id % 2));
+        }
+
+        List<Long> collected = new ArrayList<>();
+        ReviewFeedRanker.Cursor cursor = null;
+        do {
+            String encoded = cursor == null ? null : cursor.encode();
+            ReviewFeedRanker.Page page = ranker.rank(candidates, NOW,
+                    encoded == null ? null : ReviewFeedRanker.Cursor.decode(encoded), 10);
+            page.items().forEach(item -> collected.add(item.reviewId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        List<Long> expected = ranker.rank(candidates, NOW, null, 100).items().stream()
+                .map(ReviewFeedRanker.Ranked::reviewId)
+                .toList();
+        assertThat(collected).hasSize(25).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        assertThatThrownBy(() -> ReviewFeedRanker.Cursor.decode("bm90LWEtY3Vyc29y"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.a609.eatda.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.domain.review.repository.ReviewScrapRepository;
+import com.domain.review.service.ReviewScrapStateService;
+import com.domain.review.service.ReviewScrapStateService.ScrapBatch;
+import com.domain.review.service.ReviewScrapStateService.ScrapOp;
+import com.domain.review.service.ReviewScrapStateService.ToggleResult;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewScrapStateServiceTest {
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    SetOperations<String, String> setOperations;
+
+    @Mock
+    ReviewScrapRepository reviewScrapRepository;
+
+    ReviewScrapStateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReviewScrapStateService(redisTemplate, reviewScrapRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 스크랩_집합이_없으면_DB에서_적재한_뒤_다시_토글한다() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(),
+                anyString()))
+                .thenReturn(List.of(-1L, 0L))
+                .thenReturn(List.of(1L, 3L));
+        when(reviewScrapRepository.findUserIdsByReviewId(7L)).thenReturn(List.of(1L, 2L));
+
+        ToggleResult result = service.toggle(7L, 3L);
+
+        assertThat(result).isEqualTo(new ToggleResult(true, 3));
+        verify(reviewScrapRepository).findUserIdsByReviewId(7L);
+        verify(redisTemplate).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 꺼낸_대기_동작을_처리중_배치로_옮기고_리뷰와_사용자별로_변환한다() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("10"), eq("review:scrap:pending:"),
+                anyString(), anyString()))
+                .thenReturn(List.of("7:1", "1:1000", "7:2", "0:2000", "8:5", "1:3000"));
+
+        ScrapBatch batch = service.drain(10);
+
+        assertThat(batch.ops()).containsExactly(
+                new ScrapOp(7L, 1L, true, 1000L),
+                new ScrapOp(7L, 2L, false, 2000L),
+                new ScrapOp(8L, 5L, true, 3000L));
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), anyString(), anyString(),
+                anyString(), eq(batch.id()));
+        assertThat(keys.getValue()).containsExactly("review:scrap:dirty",
+                "review:scrap:processing:" + batch.id(), "review:scrap:batches");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 정합성_점검_대상에서_대기중이거나_처리중인_리뷰는_제외한다() {
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(zSetOperations.range("review:scrap:active", 0, -1)).thenReturn(Set.of("7", "8", "9"));
+        when(setOperations.members("review:scrap:dirty")).thenReturn(Set.of("7"));
+        when(zSetOperations.range("review:scrap:batches", 0, -1)).thenReturn(Set.of("b1"));
+        when(hashOperations.keys("review:scrap:processing:b1")).thenReturn(Set.of("8:1", "8:2"));
+
+        List<Long> settled = service.findSettledActiveReviews(0L);
+
+        assertThat(settled).containsExactly(9L);
+    }
+}
@@ -0,0 +1,30 @@
+package com.a609.eatda.domain.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.domain.review.service.ReviewTimelineMerger;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReviewTimelineMergerTest {
+
+    @Test
+    void 여러_가게_타임라인을_최신순으로_병합해_상위_N개만_반환한다() {
+        List<List<Long>> timelines = List.of(
+                List.of(90L, 40L, 10L),
+                List.of(70L, 60L),
+                List.of(),
+                List.of(80L, 50L, 20L));
+
+        assertThat(ReviewTimelineMerger.mergeLatest(timelines, 5))
+                .containsExactly(90L, 80L, 70L, 60L, 50L);
+    }
+
+    @Test
+    void 전체_리뷰가_limit보다_적으면_모두_반환한다() {
+        List<List<Long>> timelines = List.of(List.of(3L), List.of(5L, 1L));
+
+        assertThat(ReviewTimelineMerger.mergeLatest(timelines, 10)).containsExactly(5L, 3L, 1L);
+        assertThat(ReviewTimelineMerger.mergeLatest(List.of(), 10)).isEmpty();
+    }
+}
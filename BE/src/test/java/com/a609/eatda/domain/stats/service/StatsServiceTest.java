@@ -0,0 +1,89 @@
+package com.a609.eatda.domain.stats.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.domain.event.repository.EventRepository;
+import com.domain.menu.repository.MenuPosterRepository;
+import com.domain.review.event.ReviewDeletedEvent;
+import com.domain.review.repository.ReviewRepository;
+import com.domain.review.repository.ReviewScrapRepository;
+import com.domain.stats.entity.UserStats;
+import com.domain.stats.repository.StoreStatsRepository;
+import com.domain.stats.repository.UserStatsRepository;
+import com.domain.stats.service.StatsService;
+import com.global.constants.Status;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class StatsServiceTest {
+
+    @InjectMocks
+    StatsService statsService;
+
+    @Mock
+    UserStatsRepository userStatsRepository;
+
+    @Mock
+    StoreStatsRepository storeStatsRepository;
+
+    @Mock
+    ReviewRepository reviewRepository;
+
+    @Mock
+    ReviewScrapRepository reviewScrapRepository;
+
+    @Mock
+    MenuPosterRepository menuPosterRepository;
+
+    @Mock
+    EventRepository eventRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void 최근_검증된_통계는_원본을_다시_세지_않는다() {
+        UserStats stats = mock(UserStats.class);
+        given(stats.getVerifiedAt()).willReturn(LocalDateTime.now().minusHours(1));
+        given(userStatsRepository.findById(1L)).willReturn(Optional.of(stats));
+
+        assertThat(statsService.getUserStats(1L)).isSameAs(stats);
+        verifyNoInteractions(reviewRepository, reviewScrapRepository, menuPosterRepository);
+        verify(userStatsRepository, never()).upsert(anyLong(), anyLong(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void 통계가_없으면_원본_COUNT로_만들어_저장한다() {
+        UserStats stats = mock(UserStats.class);
+        given(userStatsRepository.findById(1L)).willReturn(Optional.empty()).willReturn(Optional.of(stats));
+        given(reviewRepository.countByUserIdAndStatus(1L, Status.SUCCESS)).willReturn(3L);
+        given(reviewScrapRepository.countByUserId(1L)).willReturn(5L);
+        given(menuPosterRepository.countByUserIdAndStatus(1L, Status.SUCCESS)).willReturn(2L);
+
+        assertThat(statsService.getUserStats(1L)).isSameAs(stats);
+        verify(userStatsRepository).upsert(eq(1L), eq(3L), eq(5L), eq(2L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void 게시되지_않은_리뷰_삭제는_통계에_반영하지_않는다() {
+        statsService.onReviewDeleted(new ReviewDeletedEvent(10L, 100L, 1L, null, null, false,
+                LocalDateTime.now()));
+
+        verifyNoInteractions(userStatsRepository, storeStatsRepository);
+    }
+}
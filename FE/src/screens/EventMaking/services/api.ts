@@ -755,9 +755,10 @@ export const getStoreEvents = async (
   if (!storeId || storeId <= 0)
     throw new AppError("INVALID_INPUT", "유효하지 않은 가게 ID입니다.");
 
+  // 커서 페이지(최대 100개) 첫 페이지만 사용
   const url = `${BASE_URL}/api/events?storeId=${encodeURIComponent(
     String(storeId)
-  )}`;
+  )}&pageSize=100`;
   console.log(`[getStoreEvents] GET ${url}`);
 
   const res = await fetch(url, {
@@ -786,6 +787,8 @@ export const getStoreEvents = async (
   // 스웨거 응답: { code, message, status, data: [ {title, description, startDate, endDate, imageUrl} ] }
   const arr: any[] = Array.isArray(json?.data)
     ? json.data
+    : Array.isArray(json?.data?.content)
+    ? json.data.content
     : Array.isArray(json?.events)
     ? json.events
     : Array.isArray(json)
@@ -21,7 +21,7 @@ import TabNavigation from "../../components/TabNavigation";
 import CloseBtn from "../../../assets/closeBtn.svg";
 import DustBox from "../../../assets/dustbox.svg";
 import ResultModal from "../../components/ResultModal";
-import { getScrappedReviews } from "./services/api";
+import { collectCursorPages, getScrappedReviews } from "./services/api";
 import {
   getMyReviews,
   mapMyReviewsToReviewItems,
@@ -36,6 +36,9 @@ const EmptyIcon = require("../../../assets/blue-box-with-red-button-that-says-x-
 const PLACEHOLDER_THUMB =
   "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR4nGNgYAAAAAMAASsJTYQAAAAASUVORK5CYII=";
 
+// 탭별 그리드 최대 표시 개수 (커서 페이지를 이어 받아 채움)
+const MAX_GRID_ITEMS = 90;
+
 interface EaterMypageProps {
   userRole: "eater";
   onLogout: () => void;
@@ -120,7 +123,10 @@ export default function EaterMypage({
     if (activeTab !== "scrappedReviews") return;
     setLoadingScraps(true);
     setScrapsError(null);
-    getScrappedReviews({ size: 30 })
+    collectCursorPages(
+      (cursor) => getScrappedReviews({ lastReviewId: cursor, pageSize: 30 }),
+      MAX_GRID_ITEMS
+    )
       .then((list) => {
         if (!Array.isArray(list)) {
           setScraps([]);
@@ -167,7 +173,10 @@ export default function EaterMypage({
     setLoadingMyMenuBoards(true);
     setMyMenuBoardsError(null);
 
-    getMyMenuPosters()
+    collectCursorPages(
+      (cursor) => getMyMenuPosters({ lastPosterId: cursor, pageSize: 30 }),
+      MAX_GRID_ITEMS
+    )
       .then((posters) => {
         const items = mapMenuPostersToGridItems(
           posters,
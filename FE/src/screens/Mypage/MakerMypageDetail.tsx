@@ -26,6 +26,7 @@ import CloseBtn from "../../../assets/closeBtn.svg";
 
 import { getMyEvents } from "../EventMaking/services/api";
 import {
+  collectCursorPages,
   getReceivedReviews,
   getReceivedMenuPosters,
   mapReceivedPostersToGridItems,
@@ -38,6 +39,9 @@ const EmptyIcon = require("../../../assets/blue-box-with-red-button-that-says-x-
 
 const VIEWABILITY_CONFIG = { viewAreaCoveragePercentThreshold: 80 as const };
 
+// 탭별 그리드 최대 표시 개수 (커서 페이지를 이어 받아 채움)
+const MAX_GRID_ITEMS = 90;
+
 interface MakerMypageProps {
   userRole: "maker";
   onLogout: () => void;
@@ -162,7 +166,10 @@ export default function MakerMypageDetail({
     setLoadingReviews(true);
     setReviewsError(null);
 
-    getReceivedReviews({ size: 30 })
+    collectCursorPages(
+      (cursor) => getReceivedReviews({ lastReviewId: cursor, pageSize: 30 }),
+      MAX_GRID_ITEMS
+    )
       .then((res) => {
         const mapped: ReviewItem[] = (Array.isArray(res) ? res : [])
           .map((r, idx): ReviewItem | null => {
@@ -236,7 +243,11 @@ export default function MakerMypageDetail({
 
     (async () => {
       try {
-        const posters = await getReceivedMenuPosters();
+        const posters = await collectCursorPages(
+          (cursor) =>
+            getReceivedMenuPosters({ lastPosterId: cursor, pageSize: 30 }),
+          MAX_GRID_ITEMS
+        );
         const mapped = mapReceivedPostersToGridItems(
           posters,
           "받은 메뉴판"
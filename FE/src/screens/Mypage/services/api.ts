@@ -32,6 +32,48 @@ function buildQuery(params?: Record<string, string | number | undefined>) {
   return parts.length ? `?${parts.join("&")}` : "";
 }
 
+/* =========================
+ *  커서 페이지 공용 (서버 응답: { content, hasNext, nextCursor })
+ * ========================= */
+export interface CursorPage<T> {
+  items: T[];
+  hasNext: boolean;
+  nextCursor: number | null;
+}
+
+function extractCursorPage<T>(
+  json: any,
+  map: (raw: any) => T | null
+): CursorPage<T> {
+  const data = json?.data ?? json;
+  const list: any[] = Array.isArray(data)
+    ? data
+    : Array.isArray(data?.content)
+    ? data.content
+    : [];
+  return {
+    items: list.map(map).filter((v): v is T => v !== null),
+    hasNext: !Array.isArray(data) && !!data?.hasNext,
+    nextCursor: typeof data?.nextCursor === "number" ? data.nextCursor : null,
+  };
+}
+
+// nextCursor를 따라가며 limit개까지 모음 (그리드는 무한 스크롤이 없어 한 번에 채움)
+export async function collectCursorPages<T>(
+  fetchPage: (cursor?: number) => Promise<CursorPage<T>>,
+  limit: number
+): Promise<T[]> {
+  const items: T[] = [];
+  let cursor: number | undefined;
+  while (items.length < limit) {
+    const page = await fetchPage(cursor);
+    items.push(...page.items);
+    if (!page.hasNext || page.nextCursor === null) break;
+    cursor = page.nextCursor;
+  }
+  return items.slice(0, limit);
+}
+
 /**
  * ✅ 미디어 URL 정규화
  * - data: 스킴 그대로 통과(그리드에서 최종 필터)
@@ -204,10 +246,8 @@ export interface ReceivedReview {
   thumbnailUrl: string | null;
 }
 
-function extractReviewsFromAny(json: any): ReceivedReview[] {
-  const data = json?.data ?? json;
-  if (!Array.isArray(data)) return [];
-  return data.map((r: any) => ({
+function extractReviewsFromAny(json: any): CursorPage<ReceivedReview> {
+  return extractCursorPage(json, (r: any) => ({
     description: r?.description ?? "",
     imageUrl: r?.imageUrl ?? null,
     shortsUrl: r?.shortsUrl ?? null,
@@ -217,15 +257,15 @@ function extractReviewsFromAny(json: any): ReceivedReview[] {
 
 export async function getReceivedReviews(params?: {
   lastReviewId?: number;
-  size?: number;
-}): Promise<ReceivedReview[]> {
+  pageSize?: number;
+}): Promise<CursorPage<ReceivedReview>> {
   const { accessToken } = await getTokens();
   if (!accessToken)
     throw new Error("인증 정보가 없습니다. 다시 로그인해주세요.");
 
   const qs = buildQuery({
     lastReviewId: params?.lastReviewId,
-    size: params?.size,
+    pageSize: params?.pageSize,
   });
 
   const url = `${BASE_API_URL}/reviews/received${qs}`;
@@ -260,12 +300,12 @@ export async function getReceivedReviews(params?: {
   }
 
   const elapsed = Date.now() - started;
-  const reviews = extractReviewsFromAny(json);
+  const page = extractReviewsFromAny(json);
   console.log(
-    `[REVIEWS][RES] ${status} in ${elapsed}ms, count=${reviews.length}`
+    `[REVIEWS][RES] ${status} in ${elapsed}ms, count=${page.items.length}, hasNext=${page.hasNext}`
   );
 
-  return reviews;
+  return page;
 }
 
 /* =========================
@@ -323,10 +363,8 @@ export interface ScrappedReview {
   thumbnailUrl: string | null;
 }
 
-function extractScrapsFromAny(json: any): ScrappedReview[] {
-  const data = json?.data ?? json;
-  if (!Array.isArray(data)) return [];
-  return data.map((r: any) => ({
+function extractScrapsFromAny(json: any): CursorPage<ScrappedReview> {
+  return extractCursorPage(json, (r: any) => ({
     storeName: r?.storeName ?? "",
     description: r?.description ?? "",
     imageUrl: r?.imageUrl ?? null,
@@ -337,15 +375,15 @@ function extractScrapsFromAny(json: any): ScrappedReview[] {
 
 export async function getScrappedReviews(params?: {
   lastReviewId?: number;
-  size?: number;
-}): Promise<ScrappedReview[]> {
+  pageSize?: number;
+}): Promise<CursorPage<ScrappedReview>> {
   const { accessToken } = await getTokens();
   if (!accessToken)
     throw new Error("인증 정보가 없습니다. 다시 로그인해주세요.");
 
   const qs = buildQuery({
     lastReviewId: params?.lastReviewId,
-    size: params?.size,
+    pageSize: params?.pageSize,
   });
 
   const url = `${BASE_API_URL}/reviews/scraps${qs}`;
@@ -378,14 +416,14 @@ export async function getScrappedReviews(params?: {
     throw new Error(msg);
   }
 
-  const items = extractScrapsFromAny(json);
+  const page = extractScrapsFromAny(json);
   console.log(
     `[SCRAPS][RES] ${status} in ${Date.now() - started}ms, count=${
-      items.length
-    }`
+      page.items.length
+    }, hasNext=${page.hasNext}`
   );
 
-  return items;
+  return page;
 }
 
 export function mapScrapsToGridItems(
@@ -561,33 +599,30 @@ export interface MyMenuPoster {
   imageUrl: string;
 }
 
-function extractMyMenuPostersFromAny(json: any): MyMenuPoster[] {
-  const data = json?.data ?? json;
-  const list = Array.isArray(data)
-    ? data
-    : Array.isArray(data?.items)
-    ? data.items
-    : Array.isArray(data?.posters)
-    ? data.posters
-    : [];
-
-  return list
-    .map((it: any) => {
-      const id = Number(it?.id ?? it?.menuPosterId ?? it?.posterId);
-      const imageUrl = normalizePosterUrl(
-        String(it?.imageUrl ?? it?.url ?? it?.path ?? "")
-      );
-      return { id, imageUrl };
-    })
-    .filter((p: MyMenuPoster) => Number.isFinite(p.id) && !!p.imageUrl);
+function extractMyMenuPostersFromAny(json: any): CursorPage<MyMenuPoster> {
+  return extractCursorPage(json, (it: any): MyMenuPoster | null => {
+    const id = Number(it?.id ?? it?.menuPosterId ?? it?.posterId);
+    const imageUrl = normalizePosterUrl(
+      String(it?.imageUrl ?? it?.url ?? it?.path ?? "")
+    );
+    return Number.isFinite(id) && !!imageUrl ? { id, imageUrl } : null;
+  });
 }
 
-export async function getMyMenuPosters(): Promise<MyMenuPoster[]> {
+export async function getMyMenuPosters(params?: {
+  lastPosterId?: number;
+  pageSize?: number;
+}): Promise<CursorPage<MyMenuPoster>> {
   const { accessToken } = await getTokens();
   if (!accessToken)
     throw new Error("인증 정보가 없습니다. 다시 로그인해주세요.");
 
-  const url = `${BASE_API_URL}/menu-posters/my`;
+  const qs = buildQuery({
+    lastPosterId: params?.lastPosterId,
+    pageSize: params?.pageSize,
+  });
+
+  const url = `${BASE_API_URL}/menu-posters/my${qs}`;
 
   console.log(`[MY-POSTERS][REQ] GET ${url}`);
   console.log(
@@ -668,32 +703,32 @@ function toReceivedMenuPoster(raw: any): ReceivedMenuPoster | null {
 
 export function extractReceivedMenuPostersFromAny(
   json: any
-): ReceivedMenuPoster[] {
-  const arr: any[] = Array.isArray(json?.data)
-    ? json.data
-    : Array.isArray(json)
-    ? json
-    : [];
-
-  const normalized = arr
-    .map(toReceivedMenuPoster)
-    .filter((v): v is ReceivedMenuPoster => !!v);
+): CursorPage<ReceivedMenuPoster> {
+  const page = extractCursorPage(json, toReceivedMenuPoster);
 
   console.log("[RCV-POSTERS][PARSED]", {
-    totalRaw: Array.isArray(arr) ? arr.length : 0,
-    totalParsed: normalized.length,
-    sample: normalized[0],
+    totalParsed: page.items.length,
+    hasNext: page.hasNext,
+    sample: page.items[0],
   });
 
-  return normalized;
+  return page;
 }
 
-export async function getReceivedMenuPosters(): Promise<ReceivedMenuPoster[]> {
+export async function getReceivedMenuPosters(params?: {
+  lastPosterId?: number;
+  pageSize?: number;
+}): Promise<CursorPage<ReceivedMenuPoster>> {
   const { accessToken } = await getTokens();
   if (!accessToken)
     throw new Error("인증 정보가 없습니다. 다시 로그인해주세요.");
 
-  const url = `${BASE_API_URL}/menu-posters/received`;
+  const qs = buildQuery({
+    lastPosterId: params?.lastPosterId,
+    pageSize: params?.pageSize,
+  });
+
+  const url = `${BASE_API_URL}/menu-posters/received${qs}`;
 
   console.log(`[RCV-POSTERS][REQ] GET ${url}`);
   console.log(
@@ -672,9 +672,10 @@ export const getStoreReviews = async (
   if (!storeId || storeId <= 0) throw new Error("유효하지 않은 가게 ID입니다.");
   if (!accessToken) throw new Error("인증 토큰이 없습니다.");
 
+  // 커서 페이지(최대 100개) 첫 페이지만 사용
   const url = `${BASE_API_URL}/reviews?storeId=${encodeURIComponent(
     String(storeId)
-  )}`;
+  )}&pageSize=100`;
   console.log("[getStoreReviews] GET", url);
 
   const res = await fetch(url, {
@@ -714,6 +715,8 @@ export const getStoreReviews = async (
   // 명세: data가 배열(마이페이지/스토어 둘 다 커버)
   const arr = Array.isArray(json?.data)
     ? json.data
+    : Array.isArray(json?.data?.content)
+    ? json.data.content
     : Array.isArray(json?.reviews)
     ? json.reviews
     : Array.isArray(json)